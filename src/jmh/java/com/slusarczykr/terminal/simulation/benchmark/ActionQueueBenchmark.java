@@ -0,0 +1,70 @@
+package com.slusarczykr.terminal.simulation.benchmark;
+
+import com.slusarczykr.terminal.simulation.action.queue.ActionQueue;
+import com.slusarczykr.terminal.simulation.action.queue.PassengerQueue;
+import com.slusarczykr.terminal.simulation.coordinator.TerminalSimulationCoordinator;
+import com.slusarczykr.terminal.simulation.engine.EngineType;
+import com.slusarczykr.terminal.simulation.model.Passenger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.slusarczykr.terminal.simulation.action.ActionKey.CHECK_IN;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ActionQueueBenchmark {
+
+    @Param({"false", "true"})
+    private boolean monitoredHistoryEnabled;
+
+    @Param({"0", "16"})
+    private int queueLength;
+
+    private ActionQueue<Passenger> actionQueue;
+    private Passenger passenger;
+
+    @Setup(Level.Trial)
+    public void setupLogging() {
+        BenchmarkSupport.disableLogging();
+    }
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        TerminalSimulationCoordinator simulationCoordinator = new TerminalSimulationCoordinator(
+                BenchmarkSupport.createConfiguration(EngineType.EVENT_CALENDAR, monitoredHistoryEnabled));
+        simulationCoordinator.stop();
+        actionQueue = new PassengerQueue(CHECK_IN, simulationCoordinator);
+        passenger = new Passenger(0, 0.0, 0);
+
+        for (int i = 0; i < queueLength; i++) {
+            actionQueue.add(passenger);
+        }
+    }
+
+    @Benchmark
+    public Passenger addAndPoll() {
+        actionQueue.add(passenger);
+        return actionQueue.poll();
+    }
+
+    @Benchmark
+    public int getLength() {
+        return actionQueue.getLength();
+    }
+}
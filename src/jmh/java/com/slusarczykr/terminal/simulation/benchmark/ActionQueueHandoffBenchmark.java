@@ -0,0 +1,140 @@
+package com.slusarczykr.terminal.simulation.benchmark;
+
+import com.slusarczykr.terminal.simulation.action.queue.ActionQueue;
+import com.slusarczykr.terminal.simulation.action.queue.PassengerQueue;
+import com.slusarczykr.terminal.simulation.coordinator.TerminalSimulationCoordinator;
+import com.slusarczykr.terminal.simulation.engine.EngineType;
+import com.slusarczykr.terminal.simulation.model.Passenger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.slusarczykr.terminal.simulation.action.ActionKey.CHECK_IN;
+
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ActionQueueHandoffBenchmark {
+
+    private static final int BATCH_SIZE = 4;
+
+    private ActionQueue<Passenger> actionQueue;
+    private AtomicLong passengerSequence;
+    private AtomicInteger activeServers;
+    private LongAdder producedPassengers;
+    private LongAdder producedChecksum;
+    private LongAdder servedPassengers;
+    private LongAdder servedChecksum;
+    private LongAdder concurrentServers;
+
+    @Setup(Level.Trial)
+    public void setupLogging() {
+        BenchmarkSupport.disableLogging();
+    }
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        TerminalSimulationCoordinator simulationCoordinator = new TerminalSimulationCoordinator(
+                BenchmarkSupport.createConfiguration(EngineType.EVENT_CALENDAR, false));
+        simulationCoordinator.stop();
+        actionQueue = new PassengerQueue(CHECK_IN, simulationCoordinator);
+        passengerSequence = new AtomicLong();
+        activeServers = new AtomicInteger();
+        producedPassengers = new LongAdder();
+        producedChecksum = new LongAdder();
+        servedPassengers = new LongAdder();
+        servedChecksum = new LongAdder();
+        concurrentServers = new LongAdder();
+    }
+
+    @Benchmark
+    @Group("handoff")
+    @GroupThreads(4)
+    public void handoff(Server server) {
+        long passengerId = passengerSequence.getAndIncrement();
+        actionQueue.add(new Passenger(passengerId, 0.0, 0));
+        producedPassengers.increment();
+        producedChecksum.add(passengerId);
+
+        if (server.serving || actionQueue.tryAcquire()) {
+            server.serving = serve(server.passengers);
+        }
+    }
+
+    private boolean serve(List<Passenger> passengers) {
+        enterServer();
+
+        if (actionQueue.drainTo(passengers, BATCH_SIZE) > 0) {
+            passengers.forEach(it -> {
+                servedPassengers.increment();
+                servedChecksum.add(it.getId());
+            });
+            passengers.clear();
+            activeServers.decrementAndGet();
+
+            return true;
+        }
+        activeServers.decrementAndGet();
+
+        return !actionQueue.tryRelease();
+    }
+
+    private void enterServer() {
+        if (activeServers.incrementAndGet() != 1) {
+            concurrentServers.increment();
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void verify() {
+        List<Passenger> passengers = new ArrayList<>(BATCH_SIZE);
+
+        if (actionQueue.isOccupied()) {
+            while (serve(passengers)) {
+            }
+        }
+        if (concurrentServers.sum() > 0) {
+            throw new IllegalStateException(String.format("Detected %d concurrently started servers", concurrentServers.sum()));
+        }
+        if (actionQueue.getLength() != 0 || actionQueue.isOccupied()) {
+            throw new IllegalStateException(String.format("Stranded passengers: %d, occupied: %b",
+                    actionQueue.getLength(), actionQueue.isOccupied()));
+        }
+        if (producedPassengers.sum() != servedPassengers.sum() || producedChecksum.sum() != servedChecksum.sum()) {
+            throw new IllegalStateException(String.format("Produced %d passengers but served %d",
+                    producedPassengers.sum(), servedPassengers.sum()));
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Server {
+        private final List<Passenger> passengers = new ArrayList<>(BATCH_SIZE);
+        private boolean serving;
+
+        @Setup(Level.Iteration)
+        public void setup() {
+            serving = false;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.slusarczykr.terminal.simulation.benchmark;
+
+import com.slusarczykr.terminal.simulation.airport.AirportConfiguration;
+import com.slusarczykr.terminal.simulation.airport.AirportSimulation;
+import com.slusarczykr.terminal.simulation.airport.ConservativeAirportSimulation;
+import com.slusarczykr.terminal.simulation.airport.OptimisticAirportSimulation;
+import com.slusarczykr.terminal.simulation.config.SimulationConfiguration;
+import com.slusarczykr.terminal.simulation.coordinator.TerminalSimulationCoordinator;
+import com.slusarczykr.terminal.simulation.engine.EngineType;
+import com.slusarczykr.terminal.simulation.random.RandomStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 3, time = 20)
+@Fork(1)
+public class AirportSynchronizationBenchmark {
+
+    @Param
+    private Execution execution;
+
+    @Param({"4"})
+    private int terminals;
+
+    @Param({"0.01", "0.1"})
+    private double transferProbability;
+
+    @Param({"30"})
+    private int optimisticWindow;
+
+    @Param({"600"})
+    private int simulationDuration;
+
+    private SimulationConfiguration simulationConfig;
+    private AirportConfiguration airportConfig;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        BenchmarkSupport.disableLogging();
+        simulationConfig = BenchmarkSupport.createConfiguration(EngineType.EVENT_CALENDAR, false);
+        simulationConfig.setSimulationDuration(simulationDuration);
+        airportConfig = new AirportConfiguration();
+        airportConfig.setTerminals(terminals);
+        airportConfig.setTransferProbability(transferProbability);
+        airportConfig.setOptimisticWindow(Duration.ofSeconds(optimisticWindow));
+    }
+
+    @Benchmark
+    public long airport() {
+        switch (execution) {
+            case CONSERVATIVE:
+                return runAirport(new ConservativeAirportSimulation(simulationConfig, airportConfig, BenchmarkSupport.SEED));
+            case OPTIMISTIC:
+                return runAirport(new OptimisticAirportSimulation(simulationConfig, airportConfig, BenchmarkSupport.SEED));
+            default:
+                return runSequential();
+        }
+    }
+
+    private long runAirport(AirportSimulation airportSimulation) {
+        airportSimulation.run();
+
+        return airportSimulation.getTerminals().stream()
+                .mapToLong(it -> it.getSimulationCoordinator().getDepartedPassengersNumber())
+                .sum();
+    }
+
+    private long runSequential() {
+        long departedPassengers = 0;
+
+        for (int i = 0; i < terminals; i++) {
+            TerminalSimulationCoordinator simulationCoordinator =
+                    new TerminalSimulationCoordinator(simulationConfig, RandomStream.deriveSeed(BenchmarkSupport.SEED, i));
+            simulationCoordinator.startSimulation();
+            departedPassengers += simulationCoordinator.getDepartedPassengersNumber();
+        }
+        return departedPassengers;
+    }
+
+    public enum Execution {
+        SEQUENTIAL,
+        CONSERVATIVE,
+        OPTIMISTIC
+    }
+}
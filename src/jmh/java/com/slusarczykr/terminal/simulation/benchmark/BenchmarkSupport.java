@@ -0,0 +1,28 @@
+package com.slusarczykr.terminal.simulation.benchmark;
+
+import com.slusarczykr.terminal.simulation.config.SimulationConfiguration;
+import com.slusarczykr.terminal.simulation.engine.EngineType;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.core.config.Configurator;
+
+final class BenchmarkSupport {
+
+    static final long SEED = 42L;
+
+    private BenchmarkSupport() {
+    }
+
+    static void disableLogging() {
+        Configurator.setAllLevels(LogManager.getRootLogger().getName(), Level.OFF);
+    }
+
+    static SimulationConfiguration createConfiguration(EngineType engineType, boolean monitoredHistoryEnabled) {
+        SimulationConfiguration simulationConfig = new SimulationConfiguration();
+        simulationConfig.setEngineType(engineType.name());
+        simulationConfig.setMonitoredHistoryEnabled(monitoredHistoryEnabled);
+        simulationConfig.setSeed(SEED);
+
+        return simulationConfig;
+    }
+}
@@ -0,0 +1,69 @@
+package com.slusarczykr.terminal.simulation.benchmark;
+
+import com.slusarczykr.terminal.simulation.action.AbstractAction;
+import com.slusarczykr.terminal.simulation.action.Action;
+import com.slusarczykr.terminal.simulation.action.queue.ActionQueue;
+import com.slusarczykr.terminal.simulation.coordinator.TerminalSimulationCoordinator;
+import com.slusarczykr.terminal.simulation.engine.EngineType;
+import com.slusarczykr.terminal.simulation.model.Passenger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.slusarczykr.terminal.simulation.action.ActionKey.CHECK_IN;
+import static com.slusarczykr.terminal.simulation.action.ActionKey.GENERATE_PASSENGER;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PassengerGenerationBenchmark {
+
+    private AbstractAction<Passenger> generatePassengerAction;
+    private List<Action<Passenger>> checkInActions;
+
+    @Setup(Level.Trial)
+    public void setupLogging() {
+        BenchmarkSupport.disableLogging();
+    }
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        TerminalSimulationCoordinator simulationCoordinator = new TerminalSimulationCoordinator(
+                BenchmarkSupport.createConfiguration(EngineType.EVENT_CALENDAR, false));
+        simulationCoordinator.stop();
+        generatePassengerAction = (AbstractAction<Passenger>) simulationCoordinator.getActionInstances(GENERATE_PASSENGER).get(0);
+        checkInActions = simulationCoordinator.getActionInstances(CHECK_IN);
+    }
+
+    @Benchmark
+    public double generatePassenger() {
+        double delay = generatePassengerAction.startAction();
+        drainCheckInQueues();
+
+        return delay;
+    }
+
+    private void drainCheckInQueues() {
+        for (Action<Passenger> checkInAction : checkInActions) {
+            ActionQueue<Passenger> actionQueue = checkInAction.getQueue();
+
+            while (actionQueue.getLength() > 0) {
+                actionQueue.poll();
+            }
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.slusarczykr.terminal.simulation.benchmark;
+
+import com.slusarczykr.terminal.simulation.action.Action;
+import com.slusarczykr.terminal.simulation.config.SimulationConfiguration;
+import com.slusarczykr.terminal.simulation.coordinator.TerminalSimulationCoordinator;
+import com.slusarczykr.terminal.simulation.engine.EngineType;
+import com.slusarczykr.terminal.simulation.model.Passenger;
+import com.slusarczykr.terminal.simulation.routing.RoutingStrategyType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.slusarczykr.terminal.simulation.action.ActionKey.CHECK_IN;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RoutingBenchmark {
+
+    @Param
+    private RoutingStrategyType routingStrategyType;
+
+    @Param({"3", "10"})
+    private int actionInstances;
+
+    private TerminalSimulationCoordinator simulationCoordinator;
+
+    @Setup
+    public void setup() {
+        BenchmarkSupport.disableLogging();
+        SimulationConfiguration simulationConfig = BenchmarkSupport.createConfiguration(EngineType.EVENT_CALENDAR, false);
+        simulationConfig.setActionInstances(CHECK_IN, actionInstances);
+        simulationConfig.setRoutingStrategyType(CHECK_IN, routingStrategyType.name());
+        simulationCoordinator = new TerminalSimulationCoordinator(simulationConfig);
+        simulationCoordinator.stop();
+        populateQueues();
+    }
+
+    private void populateQueues() {
+        Passenger passenger = new Passenger(0, 0.0, 0);
+        int length = 0;
+
+        for (Action<Passenger> action : simulationCoordinator.getActionInstances(CHECK_IN)) {
+            for (int i = 0; i < length; i++) {
+                action.getQueue().add(passenger);
+            }
+            length++;
+        }
+    }
+
+    @Benchmark
+    public Action<Passenger> getAction() {
+        return simulationCoordinator.getAction(CHECK_IN);
+    }
+}
@@ -0,0 +1,80 @@
+package com.slusarczykr.terminal.simulation.benchmark;
+
+import com.slusarczykr.terminal.simulation.action.ActionKey;
+import com.slusarczykr.terminal.simulation.config.SimulationConfiguration;
+import com.slusarczykr.terminal.simulation.coordinator.TerminalSimulationCoordinator;
+import com.slusarczykr.terminal.simulation.engine.EngineType;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import static com.slusarczykr.terminal.simulation.action.ActionKey.CHECK_IN;
+import static com.slusarczykr.terminal.simulation.action.ActionKey.SECURITY_CHECK;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+public class SimulationThroughputBenchmark {
+
+    @Param({"EVENT_CALENDAR", "VIRTUAL_THREAD"})
+    private EngineType engineType;
+
+    @Param({"60", "600"})
+    private int simulationDuration;
+
+    @Param({"3", "10"})
+    private int actionInstances;
+
+    @Param({"10", "30"})
+    private int maxFlightsNumber;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        BenchmarkSupport.disableLogging();
+    }
+
+    @Benchmark
+    public TerminalSimulationCoordinator simulation(SimulationEvents simulationEvents) {
+        SimulationConfiguration simulationConfig = BenchmarkSupport.createConfiguration(engineType, false);
+        simulationConfig.setSimulationDuration(simulationDuration);
+        simulationConfig.setMaxFlightsNumber(maxFlightsNumber);
+        simulationConfig.setActionInstances(CHECK_IN, actionInstances);
+        simulationConfig.setActionInstances(SECURITY_CHECK, actionInstances);
+
+        TerminalSimulationCoordinator simulationCoordinator = new TerminalSimulationCoordinator(simulationConfig);
+        simulationCoordinator.startSimulation();
+        simulationEvents.events += Arrays.stream(ActionKey.values())
+                .mapToLong(simulationCoordinator::getActionInvocations)
+                .sum();
+
+        return simulationCoordinator;
+    }
+
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class SimulationEvents {
+
+        public long events;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            events = 0;
+        }
+    }
+}
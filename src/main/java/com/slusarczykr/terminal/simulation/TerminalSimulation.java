@@ -1,11 +1,19 @@
 package com.slusarczykr.terminal.simulation;
 
 import com.slusarczykr.terminal.simulation.action.ActionKey;
+import com.slusarczykr.terminal.simulation.action.queue.OverflowPolicy;
+import com.slusarczykr.terminal.simulation.arrival.ArrivalMode;
 import com.slusarczykr.terminal.simulation.config.SimulationConfiguration;
 import com.slusarczykr.terminal.simulation.coordinator.TerminalSimulationCoordinator;
+import com.slusarczykr.terminal.simulation.engine.EngineType;
+import com.slusarczykr.terminal.simulation.headless.HeadlessSimulationRunner;
+import com.slusarczykr.terminal.simulation.replication.ReplicationRunner;
+import com.slusarczykr.terminal.simulation.replication.ReplicationSummary;
+import com.slusarczykr.terminal.simulation.routing.RoutingStrategyType;
+import com.slusarczykr.terminal.simulation.statistics.StatisticsAccumulator;
+import com.slusarczykr.terminal.simulation.time.SimulationTime;
 import deskit.monitors.Diagram;
 import deskit.monitors.MonitoredVar;
-import deskit.monitors.Statistics;
 import org.apache.logging.log4j.Level;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -16,6 +24,7 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.io.PrintStream;
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
@@ -31,6 +40,7 @@ import static com.slusarczykr.terminal.simulation.action.ActionKey.DEPARTURE_FLI
 import static com.slusarczykr.terminal.simulation.action.ActionKey.GENERATE_PASSENGER;
 import static com.slusarczykr.terminal.simulation.action.ActionKey.RANDOM;
 import static com.slusarczykr.terminal.simulation.action.ActionKey.SECURITY_CHECK;
+import static com.slusarczykr.terminal.simulation.coordinator.TerminalSimulationCoordinator.QUEUE_STAGES;
 import static java.awt.Color.GREEN;
 import static java.math.RoundingMode.HALF_UP;
 
@@ -41,9 +51,12 @@ public class TerminalSimulation {
     private static final List<String> AVAILABLE_LOGGER_LEVELS = Arrays.asList("INFO", "DEBUG", "TRACE");
     private static final String DEFAULT_LOGGER_LEVEL = "INFO";
 
+    private static final String RANDOM_SEED = "random";
+    private static final String GENERATED_FLIGHTS = "generated";
     private static final String UNSUPPORTED_OPERATION_EXCEPTION = "Unsupported operation type";
     private static final List<ActionKey> ALLOWED_ACTIONS = Arrays.asList(GENERATE_PASSENGER, CHECK_IN, SECURITY_CHECK, DEPARTURE_FLIGHT, RANDOM);
     private static final List<ActionKey> CONFIGURABLE_ACTIONS = Arrays.asList(GENERATE_PASSENGER, CHECK_IN, SECURITY_CHECK);
+    private static final List<ActionKey> ROUTED_ACTIONS = Arrays.asList(CHECK_IN, SECURITY_CHECK);
 
     private static TerminalSimulationCoordinator simulationCoordinator = null;
 
@@ -52,10 +65,13 @@ public class TerminalSimulation {
     }
 
     public static void main(String[] args) {
+        if (args.length > 0) {
+            System.exit(new HeadlessSimulationRunner().run(args));
+        }
         SimulationConfiguration simulationConfig = new SimulationConfiguration();
 
         while (true) {
-            log.info("\nq - Exit\n1 - Run simulation\n2 - Configure simulation\n3 - Change log level\n\n");
+            log.info("\nq - Exit\n1 - Run simulation\n2 - Configure simulation\n3 - Change log level\n4 - Run simulation replications\n\n");
             String command = readUserCommand();
             log.info("\n");
 
@@ -67,6 +83,8 @@ public class TerminalSimulation {
                 displaySimulationConfigurationMenu(simulationConfig);
             } else if (command.equals("3")) {
                 setLoggerLevel(readUserInput(String.format("Logger level %s:", Arrays.toString(AVAILABLE_LOGGER_LEVELS.toArray()))));
+            } else if (command.equals("4")) {
+                runSimulationReplications(simulationConfig);
             } else {
                 log.warn(UNSUPPORTED_OPERATION_EXCEPTION);
             }
@@ -115,30 +133,73 @@ public class TerminalSimulation {
         log.info("Simulation duration in seconds: {}", simulationConfig.getSimulationDurationInSeconds());
         log.info("Maximum number of simultaneous flights: {}", simulationConfig.getMaxFlightsNumber());
         log.info("Random event probability: {}", simulationConfig.getRandomEventProbability());
+        log.info("Simulation engine: {}", simulationConfig.getEngineType());
+        log.info("Passenger arrival mode: {}", simulationConfig.getArrivalMode());
+        log.info("Flight capacity: {}", simulationConfig.getFlightCapacity());
+        log.info("Flight load factor: {}", simulationConfig.getLoadFactor());
+        log.info("Flight timetable: {}", simulationConfig.getTimetableFile().map(String::valueOf).orElse(GENERATED_FLIGHTS));
+        log.info("Timetable open window in seconds: {}", simulationConfig.getTimetableOpenWindowDuration().getSeconds());
+        log.info("Random seed: {}", simulationConfig.isSeedDefined() ? simulationConfig.getSeed() : RANDOM_SEED);
+        log.info("Monitored variables history: {}", simulationConfig.isMonitoredHistoryEnabled());
         log.info("");
         log.info("Simulation actions settings:");
         CONFIGURABLE_ACTIONS.forEach(actionKey -> {
             String logEntry = String.format("'%s' action queses:", actionKey.name());
             log.info("{} {}", logEntry, simulationConfig.getActionInstances(actionKey));
         });
+        ROUTED_ACTIONS.forEach(actionKey -> {
+            String logEntry = String.format("'%s' action routing strategy:", actionKey.name());
+            log.info("{} {}", logEntry, simulationConfig.getRoutingStrategyType(actionKey));
+            logEntry = String.format("'%s' action batch size:", actionKey.name());
+            log.info("{} {}", logEntry, simulationConfig.getBatchSize(actionKey));
+            logEntry = String.format("'%s' action queue capacity:", actionKey.name());
+            log.info("{} {}", logEntry, simulationConfig.getQueueCapacity(actionKey));
+            logEntry = String.format("'%s' action overflow policy:", actionKey.name());
+            log.info("{} {}", logEntry, simulationConfig.getOverflowPolicy(actionKey));
+        });
     }
 
     private static void setSimulationSettings(SimulationConfiguration simulationConfig) {
         try {
-            getUserInputAndExecute("Simulation duration in seconds:", it -> simulationConfig.setSimulationDuration(Integer.parseInt(it)));
+            getUserInputAndExecute("Simulation duration in seconds:", it -> simulationConfig.setSimulationDuration(Long.parseLong(it)));
             getUserInputAndExecute("Maximum number of simultaneous flights:", it -> simulationConfig.setMaxFlightsNumber(Integer.parseInt(it)));
             getUserInputAndExecute("Random event probability:", it -> simulationConfig.setRandomEventProbability(Double.parseDouble(it)));
+            getUserInputAndExecute(String.format("Simulation engine %s:", Arrays.toString(EngineType.values())), simulationConfig::setEngineType);
+            getUserInputAndExecute(String.format("Passenger arrival mode %s:", Arrays.toString(ArrivalMode.values())), simulationConfig::setArrivalMode);
+            getUserInputAndExecute("Flight capacity:", it -> simulationConfig.setFlightCapacity(Integer.parseInt(it)));
+            getUserInputAndExecute("Flight load factor:", it -> simulationConfig.setLoadFactor(Double.parseDouble(it)));
+            getUserInputAndExecute("Flight timetable file (empty for generated flights):", simulationConfig::setTimetableFile);
+            getUserInputAndExecute("Timetable open window in seconds:", it -> simulationConfig.setTimetableOpenWindow(Duration.ofSeconds(Long.parseLong(it))));
+            getUserInputAndExecute(String.format("Random seed ('%s' for a new seed on every run):", RANDOM_SEED), it -> simulationConfig.setSeed(toSeed(it)));
+            getUserInputAndExecute("Monitored variables history for histograms [true/false]:", it -> simulationConfig.setMonitoredHistoryEnabled(Boolean.parseBoolean(it)));
         } catch (Exception e) {
             log.error(e.getMessage());
         }
     }
 
+    private static Long toSeed(String seed) {
+        if (seed.equalsIgnoreCase(RANDOM_SEED)) {
+            return null;
+        }
+        return Long.parseLong(seed);
+    }
+
     private static void setSimulationActionsInstances(SimulationConfiguration simulationConfig) {
         try {
             CONFIGURABLE_ACTIONS.forEach(actionKey -> {
                 String logEntry = String.format("'%s' action queses:", actionKey.name());
                 getUserInputAndExecute(logEntry, it -> simulationConfig.setActionInstances(actionKey, Integer.parseInt(it)));
             });
+            ROUTED_ACTIONS.forEach(actionKey -> {
+                String logEntry = String.format("'%s' action routing strategy %s:", actionKey.name(), Arrays.toString(RoutingStrategyType.values()));
+                getUserInputAndExecute(logEntry, it -> simulationConfig.setRoutingStrategyType(actionKey, it));
+                logEntry = String.format("'%s' action batch size:", actionKey.name());
+                getUserInputAndExecute(logEntry, it -> simulationConfig.setBatchSize(actionKey, Integer.parseInt(it)));
+                logEntry = String.format("'%s' action queue capacity (0 for unbounded queue):", actionKey.name());
+                getUserInputAndExecute(logEntry, it -> simulationConfig.setQueueCapacity(actionKey, Integer.parseInt(it)));
+                logEntry = String.format("'%s' action overflow policy %s:", actionKey.name(), Arrays.toString(OverflowPolicy.values()));
+                getUserInputAndExecute(logEntry, it -> simulationConfig.setOverflowPolicy(actionKey, it));
+            });
         } catch (Exception e) {
             log.error(e.getMessage());
         }
@@ -196,8 +257,9 @@ public class TerminalSimulation {
     }
 
     private static TerminalSimulationCoordinator runSimulation(SimulationConfiguration simulationConfig) {
-        log.info("Starting simulation with duration: {}ms", simulationConfig.getSimulationDuration());
+        log.info("Starting simulation with duration: {} using '{}' engine", SimulationTime.format(simulationConfig.getSimulationDuration()), simulationConfig.getEngineType());
         TerminalSimulationCoordinator simulationCoordinator = new TerminalSimulationCoordinator(simulationConfig);
+        log.info("Simulation random seed: {}", simulationCoordinator.getSeed());
         simulationCoordinator.startSimulation();
 
         log.info("Simulation finished");
@@ -206,13 +268,31 @@ public class TerminalSimulation {
         return simulationCoordinator;
     }
 
+    private static void runSimulationReplications(SimulationConfiguration simulationConfig) {
+        try {
+            int replications = Integer.parseInt(readUserInput("Number of replications:"));
+            ReplicationSummary summary = new ReplicationRunner(simulationConfig).run(replications);
+            displayReplicationSummary(summary);
+        } catch (Exception e) {
+            log.error(e.getMessage());
+        }
+    }
+
+    private static void displayReplicationSummary(ReplicationSummary summary) {
+        log.info("Simulation replications: {}", summary.getReplications());
+        summary.getMetrics().forEach((metric, interval) -> log.info("'{}': {}", metric, interval));
+        summary.getAverageActionTimes().forEach((actionKey, interval) -> log.info("Average '{}' action time: {}", actionKey, interval));
+    }
+
     private static void displayGeneralSimulationStatistics(TerminalSimulationCoordinator simulationCoordinator) {
-        log.info("Simulation execution time: {}", simulationCoordinator.getSimTime());
+        log.info("Simulation execution time: {}", SimulationTime.format(simulationCoordinator.getSimTime()));
         log.info("Generated passengers: {}", simulationCoordinator.getActionInvocations(GENERATE_PASSENGER));
         log.info("Generated random events: {}", simulationCoordinator.getRandomEventActionOccurrences());
         log.info("Departed flights: {}", simulationCoordinator.getDepartedFlightsNumber());
         log.info("Departed passengers: {}", simulationCoordinator.getDepartedPassengersNumber());
         log.info("Missed flight passengers: {}", simulationCoordinator.getMissedFlightPassengersNumber());
+        log.info("Rejected passengers: {}", simulationCoordinator.getRejectedPassengersNumber());
+        log.info("Over-capacity queue inserts: {}", simulationCoordinator.getOverCapacityInserts());
     }
 
     private static String readUserInput(String label) {
@@ -241,33 +321,60 @@ public class TerminalSimulation {
         logProcessedPassengers(simulationCoordinator, SECURITY_CHECK);
 
         generateAverageStatistics(simulationCoordinator);
+        generateLatencyStatistics(simulationCoordinator);
+        generateLaneStatistics(simulationCoordinator);
     }
 
     private static void logProcessedPassengers(TerminalSimulationCoordinator simulationCoordinator, ActionKey actionKey) {
-        int actionInvocations = simulationCoordinator.getActionInvocations(actionKey);
+        long actionInvocations = simulationCoordinator.getActionInvocations(actionKey);
         log.info("Total number of passengers processed in: '{}' action - {}", actionKey, actionInvocations);
-        Map<Integer, MonitoredVar> actionTimes = simulationCoordinator.getActionTimes(actionKey);
-        actionTimes.forEach((index, actionTime) -> {
-            int actionInstanceInvocations = actionTime.getChanges().size();
+        Map<Integer, StatisticsAccumulator> actionStatistics = simulationCoordinator.getActionInstancesStatistics(actionKey);
+        actionStatistics.forEach((index, statistics) -> {
+            long actionInstanceInvocations = statistics.getCount();
             log.info("Total number of passengers processed in: '{}' action queue index: '{}' - {}", actionKey, index, actionInstanceInvocations);
         });
     }
 
+    private static void generateLatencyStatistics(TerminalSimulationCoordinator simulationCoordinator) {
+        QUEUE_STAGES.forEach(it -> {
+            logLatency(String.format("'%s' queue wait time", it.name()), simulationCoordinator.getWaitTimeStatistics(it));
+            logLatency(String.format("'%s' service time", it.name()), simulationCoordinator.getServiceTimeStatistics(it));
+        });
+        logLatency("Arrival to boarding time", simulationCoordinator.getEndToEndTimeStatistics());
+    }
+
+    private static void generateLaneStatistics(TerminalSimulationCoordinator simulationCoordinator) {
+        QUEUE_STAGES.forEach(actionKey -> simulationCoordinator.getLaneStatistics(actionKey).forEach(it ->
+                log.info("{}", String.format("'%s' [%d] lane: average queue length: %.2f, max queue length: %.0f, utilization: %.2f%%, throughput: %.2f passengers/s",
+                        actionKey.name(), it.getIndex(), it.getAverageQueueLength(), it.getMaxQueueLength(),
+                        it.getBusyFraction() * 100, it.getThroughput()))));
+    }
+
+    private static void logLatency(String label, StatisticsAccumulator statistics) {
+        log.info("{}", String.format("%s: mean: %.2f ms, p50: %.2f ms, p90: %.2f ms, p99: %.2f ms, p99.9: %.2f ms, max: %.2f ms",
+                label, statistics.getMean(), statistics.getQuantile(0.5), statistics.getQuantile(0.9),
+                statistics.getQuantile(0.99), statistics.getQuantile(0.999), statistics.getMax()));
+    }
+
     private static void generateAverageStatistics(TerminalSimulationCoordinator simulationCoordinator) {
-        ALLOWED_ACTIONS.stream()
-                .map(it -> String.format("Average '%s' action time: %.2f ms", it.name(), calculateAverageTime(getActionTime(simulationCoordinator, it))))
-                .forEach(it -> log.info("{}", it));
+        ALLOWED_ACTIONS.forEach(it -> {
+            StatisticsAccumulator actionStatistics = simulationCoordinator.getActionStatistics(it);
+            log.info("{}", String.format("Average '%s' action time: %.2f ms", it.name(), round(actionStatistics.getMean())));
+            log.info("{}", String.format("'%s' action time: std dev: %.2f ms, min: %.2f ms, p50: %.2f ms, p95: %.2f ms, p99: %.2f ms, max: %.2f ms",
+                    it.name(), actionStatistics.getStandardDeviation(), actionStatistics.getMin(), actionStatistics.getQuantile(0.5),
+                    actionStatistics.getQuantile(0.95), actionStatistics.getQuantile(0.99), actionStatistics.getMax()));
+        });
     }
 
-    private static double calculateAverageTime(MonitoredVar monitoredVar) {
-        if (monitoredVar.getChanges().size() > 0) {
-            double arithmeticMean = Statistics.arithmeticMean(monitoredVar);
-            return BigDecimal.valueOf(arithmeticMean).setScale(2, HALF_UP).doubleValue();
-        }
-        return 0.0;
+    private static double round(double value) {
+        return BigDecimal.valueOf(value).setScale(2, HALF_UP).doubleValue();
     }
 
     private static void displayHistogram(TerminalSimulationCoordinator simulationCoordinator) {
+        if (!simulationCoordinator.isMonitoredHistoryEnabled()) {
+            log.warn("Monitored variables history is disabled. Enable it in overall simulation settings and rerun simulation to display histogram");
+            return;
+        }
         Map<Integer, ActionKey> actionKeys = IntStream.range(0, ALLOWED_ACTIONS.size()).boxed()
                 .collect(Collectors.toMap(Function.identity(), ALLOWED_ACTIONS::get));
 
@@ -293,11 +400,6 @@ public class TerminalSimulation {
     }
 
     private static MonitoredVar getActionTime(TerminalSimulationCoordinator simulationCoordinator, ActionKey actionKey) {
-        if (actionKey == RANDOM) {
-            return simulationCoordinator.getRandomEventActionTime();
-        } else if (actionKey == DEPARTURE_FLIGHT) {
-            return simulationCoordinator.getDepartureFlightActionTime();
-        }
         return simulationCoordinator.getActionTime(actionKey);
     }
 
@@ -1,36 +1,46 @@
 package com.slusarczykr.terminal.simulation.action;
 
 import com.slusarczykr.terminal.simulation.action.queue.ActionQueue;
+import com.slusarczykr.terminal.simulation.action.queue.OverflowPolicy;
 import com.slusarczykr.terminal.simulation.action.random.RandomEventAction;
 import com.slusarczykr.terminal.simulation.coordinator.SimulationCoordinator;
+import com.slusarczykr.terminal.simulation.random.RandomStream;
+import com.slusarczykr.terminal.simulation.snapshot.SimulationSnapshot;
+import com.slusarczykr.terminal.simulation.statistics.StatisticsAccumulator;
+import com.slusarczykr.terminal.simulation.trace.TraceEventType;
 import deskit.SimActivity;
 import deskit.monitors.MonitoredVar;
 import deskit.random.SimGenerator;
 import org.apache.logging.log4j.Logger;
 
-import java.text.NumberFormat;
-import java.text.ParseException;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Locale;
 import java.util.Optional;
-import java.util.Random;
 
 public abstract class AbstractAction<T> extends SimActivity implements Action<T> {
 
+    public static final double ACTION_FINISHED = -1.0;
+
     protected final int index;
     protected final SimulationCoordinator<T> simulationCoordinator;
-    protected final SimGenerator simulationGenerator;
+    protected SimGenerator simulationGenerator;
     protected final MonitoredVar actionTime;
-    protected final Random random;
+    protected final StatisticsAccumulator actionStatistics;
+    protected final RandomStream random;
     protected final ActionQueue<T> actionQueue;
 
     protected AbstractAction(SimulationCoordinator<T> simulationCoordinator, int index) {
         this.index = index;
         this.simulationCoordinator = simulationCoordinator;
-        this.simulationGenerator = new SimGenerator();
+        this.random = simulationCoordinator.createRandomStream();
+        this.simulationGenerator = new SimGenerator(random.nextLong());
         this.actionTime = new MonitoredVar(simulationCoordinator);
-        this.random = new Random();
+        this.actionStatistics = new StatisticsAccumulator();
         this.actionQueue = createActionQueue();
+        this.simManager = simulationCoordinator.simManager;
     }
 
     @Override
@@ -42,7 +52,7 @@ public abstract class AbstractAction<T> extends SimActivity implements Action<T>
     public void call() {
         if (isSimulationRunning()) {
             try {
-                callActivity(simulationCoordinator, this);
+                simulationCoordinator.getEngine().call(this);
                 simulationCoordinator.addStartedActions(this);
             } catch (Exception e) {
                 getLogger().error("Exception thrown during action execution", e);
@@ -52,6 +62,22 @@ public abstract class AbstractAction<T> extends SimActivity implements Action<T>
         }
     }
 
+    @Override
+    public void action() {
+        double delay = startAction();
+
+        while (delay != ACTION_FINISHED && !await(delay)) {
+            delay = resumeAction();
+        }
+    }
+
+    public abstract double startAction();
+
+    public abstract double resumeAction();
+
+    public void onActionFinished() {
+    }
+
     protected boolean isSimulationRunning() {
         return simulationCoordinator.isSimulationRunning();
     }
@@ -73,18 +99,109 @@ public abstract class AbstractAction<T> extends SimActivity implements Action<T>
         } else {
             Action<T> nextAction = simulationCoordinator.getAction(nextActionKey);
 
-            ActionQueue<T> nextActionQueue = nextAction.getQueue();
-            nextActionQueue.add(element);
+            if (nextAction.getQueue().offer(element)) {
+                traceQueued(nextAction, element);
+                callIfIdle(nextAction);
+            } else {
+                handleQueueOverflow(nextAction, element);
+            }
+        }
+    }
 
-            if (nextActionQueue.getLength() == 1 && !nextActionQueue.isOccupied()) {
+    @Override
+    public void callNextActions(List<T> elements) {
+        if (elements.size() == 1) {
+            callNextAction(elements.get(0));
+            return;
+        }
+        ActionKey nextActionKey = getNextActionKey();
+        List<T> batch = new ArrayList<>(elements.size());
+
+        for (T element : elements) {
+            Optional<ActionKey> randomNextActionKey = getRandomNextActionKey();
+
+            if (randomNextActionKey.isPresent()) {
+                Action<T> nextAction = createRandomEventAction(randomNextActionKey.get(), nextActionKey, element);
                 nextAction.call();
+            } else {
+                batch.add(element);
             }
         }
+        if (!batch.isEmpty()) {
+            Action<T> nextAction = simulationCoordinator.getAction(nextActionKey);
+            int acceptedElements = nextAction.getQueue().offerAll(batch);
+
+            batch.subList(0, acceptedElements).forEach(it -> traceQueued(nextAction, it));
+
+            if (acceptedElements > 0) {
+                callIfIdle(nextAction);
+            }
+            batch.subList(acceptedElements, batch.size()).forEach(it -> handleQueueOverflow(nextAction, it));
+        }
+    }
+
+    private void traceQueued(Action<T> nextAction, T element) {
+        simulationCoordinator.trace(nextAction.getKey(), nextAction.getIndex(), element, TraceEventType.QUEUED);
+    }
+
+    protected void trace(T element, TraceEventType eventType) {
+        simulationCoordinator.trace(getKey(), getIndex(), element, eventType);
+    }
+
+    protected void trace(List<T> elements, TraceEventType eventType) {
+        for (T element : elements) {
+            trace(element, eventType);
+        }
+    }
+
+    private void callIfIdle(Action<T> nextAction) {
+        if (nextAction.getQueue().tryAcquire()) {
+            nextAction.call();
+        }
+    }
+
+    private void handleQueueOverflow(Action<T> nextAction, T element) {
+        ActionKey nextActionKey = nextAction.getKey();
+        OverflowPolicy overflowPolicy = simulationCoordinator.getOverflowPolicy(nextActionKey);
+        if (getLogger().isDebugEnabled()) {
+            getLogger().debug("['{}'] '{}' action queue is full. Applying '{}' overflow policy for: '{}'",
+                    getIndex(), nextActionKey, overflowPolicy, element);
+        }
+
+        if (overflowPolicy != OverflowPolicy.REJECT) {
+            Optional<Action<T>> divertedAction = simulationCoordinator.getAvailableAction(nextActionKey);
+
+            if (divertedAction.isPresent() && divertedAction.get().getQueue().offer(element)) {
+                traceQueued(divertedAction.get(), element);
+                callIfIdle(divertedAction.get());
+                return;
+            }
+        }
+        if (overflowPolicy == OverflowPolicy.BLOCK) {
+            simulationCoordinator.registerOverCapacityInsert(nextActionKey);
+            nextAction.getQueue().add(element);
+            traceQueued(nextAction, element);
+            callIfIdle(nextAction);
+            return;
+        }
+        simulationCoordinator.registerRejection(nextActionKey, element);
+    }
+
+    protected int getBatchSize() {
+        return simulationCoordinator.getBatchSize(getKey());
+    }
+
+    protected double drawBatchServiceTime(int batchSize, int degreesOfFreedom) {
+        double serviceTime = 0.0;
+
+        for (int i = 0; i < batchSize; i++) {
+            serviceTime = Math.max(serviceTime, simulationGenerator.chisquare(degreesOfFreedom));
+        }
+        return serviceTime;
     }
 
     private RandomEventAction<T> createRandomEventAction(ActionKey randomNextActionKey, ActionKey nextActionKey, T element) {
-        simulationCoordinator.removeExecutedRandomEventActions();
-        return new RandomEventAction<>(simulationCoordinator, randomNextActionKey, nextActionKey, element);
+        return simulationCoordinator.getRandomEventAction(randomNextActionKey, nextActionKey, element);
     }
 
     protected abstract Logger getLogger();
@@ -117,21 +234,70 @@ public abstract class AbstractAction<T> extends SimActivity implements Action<T>
         return actionTime;
     }
 
+    @Override
+    public StatisticsAccumulator getActionStatistics() {
+        return actionStatistics;
+    }
+
+    @Override
+    public void setActionTime(double delay) {
+        actionStatistics.add(delay);
+        simulationCoordinator.registerActionInvocation(getKey());
+
+        if (simulationCoordinator.isMonitoredHistoryEnabled()) {
+            actionTime.setValue(delay);
+        }
+    }
+
     private boolean isRandomEvent() {
         return random.nextDouble() < simulationCoordinator.getRandomEventProbability();
     }
 
     protected boolean await(double delay) {
+        return simulationCoordinator.getEngine().await(this, delay);
+    }
+
+    public boolean awaitActivity(double delay) {
         waitDuration(delay);
         return isStopped() || isInterrupted();
     }
 
-    protected double format(double number) {
-        try {
-            NumberFormat format = NumberFormat.getInstance(Locale.getDefault());
-            return format.parse(String.format("%.2f", number)).doubleValue();
-        } catch (ParseException e) {
-            throw new IllegalArgumentException(e);
+    @Override
+    public void writeSnapshot(ObjectOutput out) throws IOException {
+        random.writeSnapshot(out);
+        SimulationSnapshot.writeGenerator(out, simulationGenerator);
+        actionStatistics.writeSnapshot(out);
+
+        if (actionQueue != null) {
+            actionQueue.writeSnapshot(out);
+        }
+    }
+
+    @Override
+    public void readSnapshot(ObjectInput in) throws IOException {
+        random.readSnapshot(in);
+        simulationGenerator = SimulationSnapshot.readGenerator(in);
+        actionStatistics.readSnapshot(in);
+
+        if (actionQueue != null) {
+            actionQueue.readSnapshot(in);
+        }
+    }
+
+    protected void writeElements(ObjectOutput out, List<T> elements) throws IOException {
+        out.writeInt(elements.size());
+
+        for (T element : elements) {
+            simulationCoordinator.writeElement(out, element);
+        }
+    }
+
+    protected void readElements(ObjectInput in, List<T> elements) throws IOException {
+        int size = in.readInt();
+        elements.clear();
+
+        for (int i = 0; i < size; i++) {
+            elements.add(simulationCoordinator.readElement(in));
         }
     }
 }
@@ -1,8 +1,14 @@
 package com.slusarczykr.terminal.simulation.action;
 
 import com.slusarczykr.terminal.simulation.action.queue.ActionQueue;
+import com.slusarczykr.terminal.simulation.statistics.StatisticsAccumulator;
 import deskit.monitors.MonitoredVar;
 
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.List;
+
 public interface Action<T> {
 
     int getIndex();
@@ -16,6 +22,10 @@ public interface Action<T> {
     default void callNextAction(T element) {
     }
 
+    default void callNextActions(List<T> elements) {
+        elements.forEach(this::callNextAction);
+    }
+
     ActionKey getKey();
 
     default boolean randomEventEnabled() {
@@ -32,10 +42,14 @@ public interface Action<T> {
 
     MonitoredVar getActionTime();
 
-    default void setActionTime(double delay) {
-        getActionTime().setValue(delay);
-    }
+    StatisticsAccumulator getActionStatistics();
+
+    void setActionTime(double delay);
 
     default void terminateAction() {
     }
+
+    void writeSnapshot(ObjectOutput out) throws IOException;
+
+    void readSnapshot(ObjectInput in) throws IOException;
 }
@@ -13,7 +13,8 @@ public enum ActionKey {
     RANDOM,
     TOILET,
     DINNER,
-    SHOPPING;
+    SHOPPING,
+    FLIGHT_TIMETABLE;
 
     private static final List<ActionKey> RANDOM_EVENT_ACTION_KEYS = Arrays.asList(TOILET, DINNER, SHOPPING);
 
@@ -4,10 +4,16 @@ import com.slusarczykr.terminal.simulation.action.queue.ActionQueue;
 import com.slusarczykr.terminal.simulation.action.queue.PassengerQueue;
 import com.slusarczykr.terminal.simulation.coordinator.SimulationCoordinator;
 import com.slusarczykr.terminal.simulation.model.Passenger;
-import deskit.monitors.MonitoredVar;
+import com.slusarczykr.terminal.simulation.trace.TraceEventType;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.ArrayList;
+import java.util.List;
+
 import static com.slusarczykr.terminal.simulation.action.ActionKey.CHECK_IN;
 import static com.slusarczykr.terminal.simulation.action.ActionKey.SECURITY_CHECK;
 
@@ -15,6 +21,10 @@ public class CheckInPassengerAction extends AbstractAction<Passenger> {
 
     private static final Logger log = LogManager.getLogger(CheckInPassengerAction.class);
 
+    private static final int CHECK_IN_TIME_DEGREES_OF_FREEDOM = 7;
+
+    private final List<Passenger> passengers = new ArrayList<>();
+
     public CheckInPassengerAction(SimulationCoordinator<Passenger> simulationCoordinator, int index) {
         super(simulationCoordinator, index);
     }
@@ -31,7 +41,7 @@ public class CheckInPassengerAction extends AbstractAction<Passenger> {
 
     @Override
     public ActionQueue<Passenger> createActionQueue() {
-        return new PassengerQueue(getKey(), new MonitoredVar(simulationCoordinator));
+        return new PassengerQueue(getKey(), simulationCoordinator);
     }
 
     @Override
@@ -40,24 +50,52 @@ public class CheckInPassengerAction extends AbstractAction<Passenger> {
     }
 
     @Override
-    public void action() {
+    public double startAction() {
         log.debug("['{}'] Starting check in passenger activity", getIndex());
-        ActionQueue<Passenger> actionQueue = getQueue();
+        return checkInNextPassenger();
+    }
 
-        while (actionQueue.getLength() > 0) {
-            actionQueue.block();
-            Passenger passenger = actionQueue.poll();
-            log.debug("['{}'] Checking in passenger: '{}'", getIndex(), passenger.getUid());
+    @Override
+    public double resumeAction() {
+        if (log.isDebugEnabled()) {
+            passengers.forEach(it -> log.debug("['{}'] Passenger: '{}' check in procedure finished", getIndex(), it.getId()));
+        }
+        trace(passengers, TraceEventType.SERVICE_FINISHED);
+        callNextActions(passengers);
 
-            double delay = simulationGenerator.chisquare(7);
-            setActionTime(delay);
+        return checkInNextPassenger();
+    }
 
-            if (await(delay)) {
-                break;
+    @Override
+    public void writeSnapshot(ObjectOutput out) throws IOException {
+        super.writeSnapshot(out);
+        writeElements(out, passengers);
+    }
+
+    @Override
+    public void readSnapshot(ObjectInput in) throws IOException {
+        super.readSnapshot(in);
+        readElements(in, passengers);
+    }
+
+    private double checkInNextPassenger() {
+        ActionQueue<Passenger> actionQueue = getQueue();
+        passengers.clear();
+        int batchSize;
+
+        while ((batchSize = actionQueue.drainTo(passengers, getBatchSize())) == 0) {
+            if (actionQueue.tryRelease()) {
+                return ACTION_FINISHED;
             }
-            actionQueue.release();
-            log.debug("['{}'] Passenger: '{}' check in procedure finished", getIndex(), passenger.getUid());
-            callNextAction(passenger);
         }
+        if (log.isDebugEnabled()) {
+            passengers.forEach(it -> log.debug("['{}'] Checking in passenger: '{}'", getIndex(), it.getId()));
+        }
+        trace(passengers, TraceEventType.SERVICE_STARTED);
+
+        double delay = drawBatchServiceTime(batchSize, CHECK_IN_TIME_DEGREES_OF_FREEDOM);
+        passengers.forEach(it -> setActionTime(delay));
+
+        return delay;
     }
 }
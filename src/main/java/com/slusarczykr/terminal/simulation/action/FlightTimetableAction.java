@@ -0,0 +1,104 @@
+package com.slusarczykr.terminal.simulation.action;
+
+import com.slusarczykr.terminal.simulation.coordinator.TerminalSimulationCoordinator;
+import com.slusarczykr.terminal.simulation.model.Passenger;
+import com.slusarczykr.terminal.simulation.snapshot.SimulationSnapshot;
+import com.slusarczykr.terminal.simulation.timetable.Timetable;
+import com.slusarczykr.terminal.simulation.timetable.TimetableEntry;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+
+import static com.slusarczykr.terminal.simulation.action.ActionKey.FLIGHT_TIMETABLE;
+
+public class FlightTimetableAction extends AbstractAction<Passenger> {
+
+    private static final Logger log = LogManager.getLogger(FlightTimetableAction.class);
+
+    private static final double BOARDING_WINDOW_FRACTION = 1.0 / 3.0;
+
+    private final Timetable timetable;
+    private final double openWindow;
+
+    public FlightTimetableAction(TerminalSimulationCoordinator simulationCoordinator, int index, Timetable timetable, double openWindow) {
+        super(simulationCoordinator, index);
+        this.timetable = timetable;
+        this.openWindow = openWindow;
+    }
+
+    @Override
+    protected Logger getLogger() {
+        return log;
+    }
+
+    @Override
+    public ActionKey getKey() {
+        return FLIGHT_TIMETABLE;
+    }
+
+    @Override
+    public ActionKey getNextActionKey() {
+        return ActionKey.DEPARTURE_FLIGHT;
+    }
+
+    @Override
+    public boolean randomEventEnabled() {
+        return false;
+    }
+
+    @Override
+    public double startAction() {
+        log.debug("['{}'] Starting flight timetable activity with {} remaining flights", getIndex(), timetable.getRemainingFlights());
+        timetable.skipDepartedFlights(simTime());
+
+        return openDueFlights();
+    }
+
+    @Override
+    public double resumeAction() {
+        return openDueFlights();
+    }
+
+    private double openDueFlights() {
+        TerminalSimulationCoordinator simCoordinator = (TerminalSimulationCoordinator) simulationCoordinator;
+        double stopTime = simCoordinator.simManager.getStopTime();
+
+        while (timetable.hasNext()) {
+            TimetableEntry timetableEntry = timetable.peek();
+            double openTime = timetableEntry.getDepartureTime() - openWindow;
+
+            if (timetableEntry.getDepartureTime() > stopTime) {
+                break;
+            }
+            if (openTime > simTime()) {
+                return openTime - simTime();
+            }
+            timetable.next();
+            simCoordinator.openFlight(timetableEntry, openWindow * BOARDING_WINDOW_FRACTION);
+            simulationCoordinator.registerActionInvocation(getKey());
+        }
+        log.debug("['{}'] No more timetable flights departing before the simulation end", getIndex());
+        return ACTION_FINISHED;
+    }
+
+    @Override
+    public void writeSnapshot(ObjectOutput out) throws IOException {
+        super.writeSnapshot(out);
+        out.writeInt(timetable.size());
+        out.writeInt(timetable.getCursor());
+    }
+
+    @Override
+    public void readSnapshot(ObjectInput in) throws IOException {
+        super.readSnapshot(in);
+        SimulationSnapshot.checkValue("Timetable flights", timetable.size(), in.readInt());
+        timetable.setCursor(in.readInt());
+    }
+
+    public Timetable getTimetable() {
+        return timetable;
+    }
+}
@@ -1,11 +1,20 @@
 package com.slusarczykr.terminal.simulation.action;
 
+import com.slusarczykr.terminal.simulation.arrival.ArrivalMode;
+import com.slusarczykr.terminal.simulation.arrival.ArrivalSchedule;
+import com.slusarczykr.terminal.simulation.arrival.FlightArrivals;
 import com.slusarczykr.terminal.simulation.coordinator.TerminalSimulationCoordinator;
+import com.slusarczykr.terminal.simulation.model.Flight;
 import com.slusarczykr.terminal.simulation.model.Passenger;
+import com.slusarczykr.terminal.simulation.random.RandomStream;
+import com.slusarczykr.terminal.simulation.trace.TraceEventType;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import java.util.List;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.Optional;
 
 import static com.slusarczykr.terminal.simulation.action.ActionKey.CHECK_IN;
 import static com.slusarczykr.terminal.simulation.action.ActionKey.GENERATE_PASSENGER;
@@ -14,8 +23,17 @@ public class GeneratePassengerAction extends AbstractAction<Passenger> {
 
     private static final Logger log = LogManager.getLogger(GeneratePassengerAction.class);
 
+    private static final int INTER_ARRIVAL_TIME_DEGREES_OF_FREEDOM = 8;
+
+    private final ArrivalSchedule arrivalSchedule;
+    private double delay;
+    private boolean passengerGenerated;
+    private boolean waitingForArrivals;
+    private double lastArrivalTime;
+
     public GeneratePassengerAction(TerminalSimulationCoordinator simulationCoordinator, int index) {
         super(simulationCoordinator, index);
+        this.arrivalSchedule = new ArrivalSchedule(this::arrive);
     }
 
     @Override
@@ -34,29 +52,156 @@ public class GeneratePassengerAction extends AbstractAction<Passenger> {
     }
 
     @Override
-    public void action() {
+    public double startAction() {
         log.debug("['{}'] Starting generate passenger activity", getIndex());
-        TerminalSimulationCoordinator simCoordinator = (TerminalSimulationCoordinator) simulationCoordinator;
 
-        while (simCoordinator.anyFlightAvailable()) {
-            Passenger passenger = generatePassenger(simCoordinator);
-            log.debug("['{}'] Passenger: '{}' generated", getIndex(), passenger.getUid());
-            callNextAction(passenger);
+        if (isScheduledArrivals()) {
+            return ACTION_FINISHED;
+        }
+        return generateNextPassenger();
+    }
+
+    @Override
+    public double resumeAction() {
+        if (passengerGenerated) {
+            setActionTime(delay);
+        }
+        return generateNextPassenger();
+    }
+
+    public void scheduleArrivals(Flight flight, int flightCapacity, double loadFactor) {
+        int arrivals = (int) simulationGenerator.binomial(loadFactor, flightCapacity);
+        arrivalSchedule.add(flight.getId(), flight.getOpenTime(), flight.getDepartureTime(), arrivals, random)
+                .ifPresent(this::scheduleNextArrival);
+
+        if (log.isDebugEnabled()) {
+            log.debug("['{}'] Scheduled {} passenger arrivals for flight: '{}'", getIndex(), arrivals, flight.getId());
+        }
+    }
+
+    private void scheduleNextArrival(FlightArrivals flightArrivals) {
+        scheduleArrival(flightArrivals, flightArrivals.getNextArrivalTime() - simTime());
+    }
+
+    private void scheduleArrival(FlightArrivals flightArrivals, double delay) {
+        simulationCoordinator.getEngine().schedule(Math.max(0.0, delay), flightArrivals);
+    }
+
+    public void resumeArrivals() {
+        if (waitingForArrivals) {
+            waitingForArrivals = false;
+            call();
+        }
+    }
+
+    private boolean isScheduledArrivals() {
+        return ((TerminalSimulationCoordinator) simulationCoordinator).getArrivalMode() == ArrivalMode.SCHEDULED;
+    }
+
+    private double generateNextPassenger() {
+        TerminalSimulationCoordinator simCoordinator = (TerminalSimulationCoordinator) simulationCoordinator;
 
-            double delay = simulationGenerator.chisquare(8);
+        if (simCoordinator.anyFlightAvailable()) {
+            passengerGenerated = !simCoordinator.isAdmissionBlocked();
 
-            if (await(delay)) {
-                break;
+            if (passengerGenerated) {
+                generatePassenger(simCoordinator, simCoordinator.getRandomFlightId(random));
+            } else {
+                log.debug("['{}'] Terminal queues are full. Postponing passenger generation", getIndex());
             }
-            setActionTime(delay);
+            delay = simulationGenerator.chisquare(INTER_ARRIVAL_TIME_DEGREES_OF_FREEDOM);
+            return delay;
+        }
+        log.debug("['{}'] No open flights. Waiting for new flights", getIndex());
+        waitingForArrivals = true;
+        return ACTION_FINISHED;
+    }
+
+    private void arrive(FlightArrivals flightArrivals) {
+        TerminalSimulationCoordinator simCoordinator = (TerminalSimulationCoordinator) simulationCoordinator;
+
+        if (simCoordinator.isAdmissionBlocked()) {
+            log.debug("['{}'] Terminal queues are full. Postponing passenger arrival", getIndex());
+            scheduleArrival(flightArrivals, simulationGenerator.chisquare(INTER_ARRIVAL_TIME_DEGREES_OF_FREEDOM));
+            return;
+        }
+        if (passengerGenerated) {
+            setActionTime(simTime() - lastArrivalTime);
+        }
+        passengerGenerated = true;
+        lastArrivalTime = simTime();
+        int flightId = flightArrivals.getFlightId();
+
+        if (arrivalSchedule.advance(flightArrivals, random)) {
+            scheduleNextArrival(flightArrivals);
+        }
+        generatePassenger(simCoordinator, flightId);
+    }
+
+    public Optional<FlightArrivals> getFlightArrivals(int flightId) {
+        return arrivalSchedule.get(flightId);
+    }
+
+    private void generatePassenger(TerminalSimulationCoordinator simulationCoordinator, int flightId) {
+        Passenger passenger = new Passenger(simulationCoordinator.nextPassengerId(), simTime(), flightId);
+
+        if (log.isDebugEnabled()) {
+            log.debug("['{}'] Passenger: '{}' generated", getIndex(), passenger.getId());
+        }
+        trace(passenger, TraceEventType.GENERATED);
+
+        if (simulationCoordinator.transferPassenger(passenger)) {
+            log.debug("['{}'] Passenger: '{}' transferred to another terminal", getIndex(), passenger.getId());
+            trace(passenger, TraceEventType.TRANSFERRED);
+            return;
         }
+        callNextAction(passenger);
     }
 
-    private Passenger generatePassenger(TerminalSimulationCoordinator simulationCoordinator) {
-        log.debug("['{}'] Generating new passenger", getIndex());
-        List<Integer> flightsIds = simulationCoordinator.getFlightsIds();
-        int flightIdx = random.nextInt(flightsIds.size());
+    public void admitTransfer(double generationTime, RandomStream admissionRandom) {
+        TerminalSimulationCoordinator simCoordinator = (TerminalSimulationCoordinator) simulationCoordinator;
+
+        if (!simCoordinator.hasOpenFlights()) {
+            log.debug("['{}'] No open flights for transfer passenger", getIndex());
+            simCoordinator.registerMissedTransfer();
+            return;
+        }
+        Passenger passenger = new Passenger(simCoordinator.nextPassengerId(), generationTime, simCoordinator.getRandomFlightId(admissionRandom));
+
+        if (simCoordinator.isAdmissionBlocked()) {
+            log.debug("['{}'] Terminal queues are full. Rejecting transfer passenger: '{}'", getIndex(), passenger.getId());
+            simCoordinator.registerRejection(getKey(), passenger);
+            return;
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug("['{}'] Transfer passenger: '{}' admitted", getIndex(), passenger.getId());
+        }
+        trace(passenger, TraceEventType.GENERATED);
+        callNextAction(passenger);
+    }
+
+    @Override
+    public void writeSnapshot(ObjectOutput out) throws IOException {
+        super.writeSnapshot(out);
+        out.writeDouble(delay);
+        out.writeBoolean(passengerGenerated);
+        out.writeBoolean(waitingForArrivals);
+        out.writeDouble(lastArrivalTime);
+        arrivalSchedule.writeSnapshot(out);
+    }
+
+    @Override
+    public void readSnapshot(ObjectInput in) throws IOException {
+        super.readSnapshot(in);
+        delay = in.readDouble();
+        passengerGenerated = in.readBoolean();
+        waitingForArrivals = in.readBoolean();
+        lastArrivalTime = in.readDouble();
+        arrivalSchedule.readSnapshot(in);
+    }
 
-        return new Passenger(simTime(), flightsIds.get(flightIdx));
+    public ArrivalSchedule getArrivalSchedule() {
+        return arrivalSchedule;
     }
 }
@@ -5,10 +5,15 @@ import com.slusarczykr.terminal.simulation.action.queue.PassengerQueue;
 import com.slusarczykr.terminal.simulation.coordinator.TerminalSimulationCoordinator;
 import com.slusarczykr.terminal.simulation.model.Flight;
 import com.slusarczykr.terminal.simulation.model.Passenger;
-import deskit.monitors.MonitoredVar;
+import com.slusarczykr.terminal.simulation.trace.TraceEventType;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 import static com.slusarczykr.terminal.simulation.action.ActionKey.SECURITY_CHECK;
@@ -17,6 +22,10 @@ public class SecurityCheckPassengerAction extends AbstractAction<Passenger> {
 
     private static final Logger log = LogManager.getLogger(SecurityCheckPassengerAction.class);
 
+    private static final int SECURITY_CHECK_TIME_DEGREES_OF_FREEDOM = 7;
+
+    private final List<Passenger> passengers = new ArrayList<>();
+
     public SecurityCheckPassengerAction(TerminalSimulationCoordinator simulationCoordinator, int index) {
         super(simulationCoordinator, index);
     }
@@ -33,43 +42,79 @@ public class SecurityCheckPassengerAction extends AbstractAction<Passenger> {
 
     @Override
     public ActionQueue<Passenger> createActionQueue() {
-        return new PassengerQueue(getKey(), new MonitoredVar(simulationCoordinator));
+        return new PassengerQueue(getKey(), simulationCoordinator);
     }
 
     @Override
-    public void action() {
+    public double startAction() {
         log.debug("['{}'] Starting security check passenger activity", getIndex());
-        TerminalSimulationCoordinator simulationCoordinator = (TerminalSimulationCoordinator) getParentSimObject();
-        ActionQueue<Passenger> actionQueue = getQueue();
+        return checkNextPassenger();
+    }
+
+    @Override
+    public double resumeAction() {
+        if (log.isDebugEnabled()) {
+            passengers.forEach(it -> log.debug("['{}'] Passenger: '{}' security check procedure finished", getIndex(), it.getId()));
+        }
+        trace(passengers, TraceEventType.SERVICE_FINISHED);
+        passengers.forEach(it -> addPassengerToFlightIfAvailable((TerminalSimulationCoordinator) simulationCoordinator, it));
+
+        return checkNextPassenger();
+    }
+
+    @Override
+    public void writeSnapshot(ObjectOutput out) throws IOException {
+        super.writeSnapshot(out);
+        writeElements(out, passengers);
+    }
 
-        while (actionQueue.getLength() > 0) {
-            actionQueue.block();
-            Passenger passenger = actionQueue.poll();
-            log.debug("['{}'] Performing passenger security check: '{}'", getIndex(), passenger.getUid());
+    @Override
+    public void readSnapshot(ObjectInput in) throws IOException {
+        super.readSnapshot(in);
+        readElements(in, passengers);
+    }
 
-            double delay = simulationGenerator.chisquare(7);
-            setActionTime(delay);
+    private double checkNextPassenger() {
+        ActionQueue<Passenger> actionQueue = getQueue();
+        passengers.clear();
+        int batchSize;
 
-            if (await(delay)) {
-                break;
+        while ((batchSize = actionQueue.drainTo(passengers, getBatchSize())) == 0) {
+            if (actionQueue.tryRelease()) {
+                return ACTION_FINISHED;
             }
-            actionQueue.release();
-            log.debug("['{}'] Passenger: '{}' security check procedure finished", getIndex(), passenger.getUid());
-            addPassengerToFlightIfAvailable(simulationCoordinator, passenger);
         }
+        if (log.isDebugEnabled()) {
+            passengers.forEach(it -> log.debug("['{}'] Performing passenger security check: '{}'", getIndex(), it.getId()));
+        }
+        trace(passengers, TraceEventType.SERVICE_STARTED);
+
+        double delay = drawBatchServiceTime(batchSize, SECURITY_CHECK_TIME_DEGREES_OF_FREEDOM);
+        passengers.forEach(it -> setActionTime(delay));
+
+        return delay;
     }
 
     private void addPassengerToFlightIfAvailable(TerminalSimulationCoordinator simulationCoordinator, Passenger passenger) {
-        log.debug("['{}'] Searching for flight with id: {}", getIndex(), passenger.getFlightId());
+        if (log.isDebugEnabled()) {
+            log.debug("['{}'] Searching for flight with id: {}", getIndex(), passenger.getFlightId());
+        }
         Optional<Flight> maybeFlight = simulationCoordinator.getFlight(passenger.getFlightId(), false);
 
         if (maybeFlight.isPresent()) {
             Flight flight = maybeFlight.get();
-            log.debug("['{}'] Adding passenger: '{}' to flight: '{}'", getIndex(), passenger.getUid(), flight.getId());
+
+            if (log.isDebugEnabled()) {
+                log.debug("['{}'] Adding passenger: '{}' to flight: '{}'", getIndex(), passenger.getId(), flight.getId());
+            }
             flight.addPassenger(passenger, false);
+            trace(passenger, TraceEventType.BOARDED);
         } else {
-            log.debug("['{}'] Passenger: '{}' missed the flight: '{}'", getIndex(), passenger.getUid(), passenger.getFlightId());
+            if (log.isDebugEnabled()) {
+                log.debug("['{}'] Passenger: '{}' missed the flight: '{}'", getIndex(), passenger.getId(), passenger.getFlightId());
+            }
             simulationCoordinator.addMissedPassenger(passenger);
+            trace(passenger, TraceEventType.MISSED_FLIGHT);
         }
     }
 }
@@ -1,61 +1,242 @@
 package com.slusarczykr.terminal.simulation.action.queue;
 
 import com.slusarczykr.terminal.simulation.action.ActionKey;
+import com.slusarczykr.terminal.simulation.coordinator.SimulationCoordinator;
+import com.slusarczykr.terminal.simulation.statistics.TimeWeightedAccumulator;
 import deskit.monitors.MonitoredVar;
 
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 
 public class AbstractActionQueue<T> implements ActionQueue<T> {
 
+    private static final long OCCUPIED = 1L;
+    private static final long ELEMENT = 2L;
+
     private final ActionKey actionKey;
+    private final SimulationCoordinator<T> simulationCoordinator;
     private final Queue<T> elements;
+    private final int capacity;
+    private final AtomicLong state;
     private final MonitoredVar queueLength;
-    private final AtomicBoolean occupied;
+    private final TimeWeightedAccumulator lengthStatistics;
+    private final TimeWeightedAccumulator busyStatistics;
+    private final List<Consumer<ActionQueue<T>>> loadListeners;
 
-    public AbstractActionQueue(ActionKey actionKey, MonitoredVar queueLength) {
+    public AbstractActionQueue(ActionKey actionKey, SimulationCoordinator<T> simulationCoordinator) {
         this.actionKey = actionKey;
+        this.simulationCoordinator = simulationCoordinator;
         this.elements = new ConcurrentLinkedQueue<>();
-        this.queueLength = queueLength;
-        this.occupied = new AtomicBoolean(false);
+        this.capacity = simulationCoordinator.getQueueCapacity(actionKey);
+        this.state = new AtomicLong();
+        this.queueLength = new MonitoredVar(simulationCoordinator);
+        this.lengthStatistics = new TimeWeightedAccumulator(simulationCoordinator.getSimTime(), 0);
+        this.busyStatistics = new TimeWeightedAccumulator(simulationCoordinator.getSimTime(), 0);
+        this.loadListeners = new CopyOnWriteArrayList<>();
     }
 
-    private void updateQueueSize() {
-        this.queueLength.setValue(elements.size());
+    private static int lengthOf(long state) {
+        return (int) (state >>> 1);
     }
 
-    @Override
-    public ActionKey getActionKey() {
-        return actionKey;
+    private static boolean occupiedOf(long state) {
+        return (state & OCCUPIED) != 0;
+    }
+
+    private void updateQueueSize(long state) {
+        int size = lengthOf(state);
+        this.lengthStatistics.update(simulationCoordinator.getSimTime(), size);
+
+        if (simulationCoordinator.isMonitoredHistoryEnabled()) {
+            this.queueLength.setValue(size);
+        }
+        notifyLoadListeners();
+    }
+
+    private void notifyLoadListeners() {
+        loadListeners.forEach(it -> it.accept(this));
+    }
+
+    private int reserve(int requestedElements) {
+        while (true) {
+            long current = state.get();
+            int reservedElements = isBounded()
+                    ? Math.min(requestedElements, Math.max(capacity - lengthOf(current), 0))
+                    : requestedElements;
+
+            if (reservedElements == 0 || state.compareAndSet(current, current + reservedElements * ELEMENT)) {
+                return reservedElements;
+            }
+        }
+    }
+
+    private void removed(int removedElements) {
+        if (removedElements > 0) {
+            updateQueueSize(state.addAndGet(-removedElements * ELEMENT));
+        }
     }
 
     @Override
-    public Queue<T> getQueue() {
-        return elements;
+    public ActionKey getActionKey() {
+        return actionKey;
     }
 
     @Override
     public T poll() {
         T element = elements.poll();
-        updateQueueSize();
 
+        if (element != null) {
+            removed(1);
+        }
         return element;
     }
 
     @Override
     public void add(T element) {
+        long current = state.addAndGet(ELEMENT);
         this.elements.add(element);
-        updateQueueSize();
+        updateQueueSize(current);
+    }
+
+    @Override
+    public boolean offer(T element) {
+        if (reserve(1) == 0) {
+            return false;
+        }
+        this.elements.add(element);
+        updateQueueSize(state.get());
+
+        return true;
+    }
+
+    @Override
+    public int offerAll(List<T> elements) {
+        int acceptedElements = reserve(elements.size());
+
+        if (acceptedElements > 0) {
+            this.elements.addAll(elements.subList(0, acceptedElements));
+            updateQueueSize(state.get());
+        }
+        return acceptedElements;
+    }
+
+    @Override
+    public void addAll(Collection<T> elements) {
+        long current = state.addAndGet(elements.size() * ELEMENT);
+        this.elements.addAll(elements);
+        updateQueueSize(current);
+    }
+
+    @Override
+    public int drainTo(Collection<T> target, int maxElements) {
+        int drainedElements = 0;
+        T element;
+
+        while (drainedElements < maxElements && (element = elements.poll()) != null) {
+            target.add(element);
+            drainedElements++;
+        }
+        removed(drainedElements);
+
+        return drainedElements;
     }
 
     @Override
     public int getLength() {
-        return (int) queueLength.getValue();
+        return lengthOf(state.get());
+    }
+
+    @Override
+    public int getCapacity() {
+        return capacity;
+    }
+
+    @Override
+    public TimeWeightedAccumulator getLengthStatistics() {
+        return lengthStatistics;
+    }
+
+    @Override
+    public TimeWeightedAccumulator getBusyStatistics() {
+        return busyStatistics;
+    }
+
+    @Override
+    public void addLoadListener(Consumer<ActionQueue<T>> loadListener) {
+        this.loadListeners.add(loadListener);
+    }
+
+    @Override
+    public boolean isOccupied() {
+        return occupiedOf(state.get());
     }
 
     @Override
-    public AtomicBoolean getOccupied() {
-        return occupied;
+    public int getLoad() {
+        long current = state.get();
+        return occupiedOf(current) ? lengthOf(current) + 1 : lengthOf(current);
+    }
+
+    @Override
+    public boolean tryAcquire() {
+        while (true) {
+            long current = state.get();
+
+            if (occupiedOf(current) || lengthOf(current) == 0) {
+                return false;
+            }
+            if (state.compareAndSet(current, current | OCCUPIED)) {
+                busyStatistics.update(simulationCoordinator.getSimTime(), 1);
+                notifyLoadListeners();
+                return true;
+            }
+        }
+    }
+
+    @Override
+    public boolean tryRelease() {
+        if (state.compareAndSet(OCCUPIED, 0L)) {
+            busyStatistics.update(simulationCoordinator.getSimTime(), 0);
+            notifyLoadListeners();
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void writeSnapshot(ObjectOutput out) throws IOException {
+        List<T> snapshotElements = new ArrayList<>(elements);
+        out.writeBoolean(isOccupied());
+        out.writeInt(snapshotElements.size());
+
+        for (T element : snapshotElements) {
+            simulationCoordinator.writeElement(out, element);
+        }
+        lengthStatistics.writeSnapshot(out);
+        busyStatistics.writeSnapshot(out);
+    }
+
+    @Override
+    public void readSnapshot(ObjectInput in) throws IOException {
+        boolean occupied = in.readBoolean();
+        int length = in.readInt();
+        elements.clear();
+
+        for (int i = 0; i < length; i++) {
+            elements.add(simulationCoordinator.readElement(in));
+        }
+        state.set(length * ELEMENT | (occupied ? OCCUPIED : 0L));
+        lengthStatistics.readSnapshot(in);
+        busyStatistics.readSnapshot(in);
+        notifyLoadListeners();
     }
 }
@@ -1,33 +1,60 @@
 package com.slusarczykr.terminal.simulation.action.queue;
 
 import com.slusarczykr.terminal.simulation.action.ActionKey;
+import com.slusarczykr.terminal.simulation.statistics.TimeWeightedAccumulator;
 
-import java.util.Queue;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
 
 public interface ActionQueue<T> {
 
     ActionKey getActionKey();
 
-    Queue<T> getQueue();
-
     T poll();
 
     void add(T element);
 
+    boolean offer(T element);
+
+    int offerAll(List<T> elements);
+
+    void addAll(Collection<T> elements);
+
+    int drainTo(Collection<T> target, int maxElements);
+
     int getLength();
 
-    AtomicBoolean getOccupied();
+    int getCapacity();
 
-    default void block() {
-        getOccupied().set(true);
+    default boolean isBounded() {
+        return getCapacity() > 0;
     }
 
-    default void release() {
-        getOccupied().set(false);
+    default boolean isFull() {
+        return isBounded() && getLength() >= getCapacity();
     }
 
-    default boolean isOccupied() {
-        return getOccupied().get();
+    TimeWeightedAccumulator getLengthStatistics();
+
+    TimeWeightedAccumulator getBusyStatistics();
+
+    void addLoadListener(Consumer<ActionQueue<T>> loadListener);
+
+    default int getLoad() {
+        return isOccupied() ? getLength() + 1 : getLength();
     }
+
+    boolean isOccupied();
+
+    boolean tryAcquire();
+
+    boolean tryRelease();
+
+    void writeSnapshot(ObjectOutput out) throws IOException;
+
+    void readSnapshot(ObjectInput in) throws IOException;
 }
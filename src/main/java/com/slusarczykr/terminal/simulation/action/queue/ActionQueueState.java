@@ -1,6 +0,0 @@
-package com.slusarczykr.terminal.simulation.action.queue;
-
-public enum ActionQueueState {
-    NOT_OCCUPIED,
-    LOWEST_LOAD;
-}
@@ -0,0 +1,60 @@
+package com.slusarczykr.terminal.simulation.action.queue;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+public class AdmissionControl<T> {
+
+    private final AtomicInteger blockedStages;
+
+    public AdmissionControl() {
+        this.blockedStages = new AtomicInteger();
+    }
+
+    public void registerBlockingStage(List<ActionQueue<T>> actionQueues) {
+        BlockingStage stage = new BlockingStage(actionQueues.size());
+
+        for (int i = 0; i < actionQueues.size(); i++) {
+            int queueIndex = i;
+            ActionQueue<T> actionQueue = actionQueues.get(queueIndex);
+            actionQueue.addLoadListener(it -> stage.update(queueIndex, it));
+            stage.update(queueIndex, actionQueue);
+        }
+    }
+
+    public boolean isAdmissionBlocked() {
+        return blockedStages.get() > 0;
+    }
+
+    private class BlockingStage {
+
+        private final int instances;
+        private final AtomicIntegerArray fullQueueFlags;
+        private final AtomicInteger fullQueues;
+
+        private BlockingStage(int instances) {
+            this.instances = instances;
+            this.fullQueueFlags = new AtomicIntegerArray(instances);
+            this.fullQueues = new AtomicInteger();
+        }
+
+        private void update(int queueIndex, ActionQueue<T> actionQueue) {
+            boolean full;
+
+            while ((full = actionQueue.isFull()) != (fullQueueFlags.get(queueIndex) == 1)) {
+                if (fullQueueFlags.compareAndSet(queueIndex, full ? 0 : 1, full ? 1 : 0)) {
+                    updateFullQueues(full);
+                }
+            }
+        }
+
+        private void updateFullQueues(boolean full) {
+            if (full && fullQueues.incrementAndGet() == instances) {
+                blockedStages.incrementAndGet();
+            } else if (!full && fullQueues.decrementAndGet() == instances - 1) {
+                blockedStages.decrementAndGet();
+            }
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.slusarczykr.terminal.simulation.action.queue;
+
+public enum OverflowPolicy {
+    REJECT,
+    DIVERT,
+    BLOCK;
+}
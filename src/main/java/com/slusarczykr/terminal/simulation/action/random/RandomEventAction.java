@@ -3,31 +3,43 @@ package com.slusarczykr.terminal.simulation.action.random;
 import com.slusarczykr.terminal.simulation.action.AbstractAction;
 import com.slusarczykr.terminal.simulation.action.ActionKey;
 import com.slusarczykr.terminal.simulation.coordinator.SimulationCoordinator;
+import com.slusarczykr.terminal.simulation.trace.TraceEventType;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+
 public class RandomEventAction<T> extends AbstractAction<T> {
 
     private static final Logger log = LogManager.getLogger(RandomEventAction.class);
 
-    private static int indexOffset = 0;
-
-    private boolean executed;
+    private final RandomEventActionPool<T> pool;
     private final ActionKey actionKey;
-    private final ActionKey nextActionKey;
-    private final T element;
-
-    public RandomEventAction(SimulationCoordinator<T> simulationCoordinator,
-                             ActionKey randomActionKey,
-                             ActionKey nextActionKey,
-                             T element
-    ) {
-        super(simulationCoordinator, indexOffset++);
+    private ActionKey nextActionKey;
+    private T element;
+
+    RandomEventAction(SimulationCoordinator<T> simulationCoordinator, RandomEventActionPool<T> pool, ActionKey randomActionKey) {
+        this(simulationCoordinator, pool, randomActionKey, simulationCoordinator.nextRandomEventActionIndex());
+    }
+
+    RandomEventAction(SimulationCoordinator<T> simulationCoordinator, RandomEventActionPool<T> pool, ActionKey randomActionKey, int index) {
+        super(simulationCoordinator, index);
+        this.pool = pool;
         this.actionKey = randomActionKey;
+    }
+
+    void assign(ActionKey nextActionKey, T element) {
         this.nextActionKey = nextActionKey;
         this.element = element;
     }
 
+    void clear() {
+        this.nextActionKey = null;
+        this.element = null;
+    }
+
     @Override
     public ActionKey getKey() {
         return actionKey;
@@ -44,35 +56,64 @@ public class RandomEventAction<T> extends AbstractAction<T> {
     }
 
     @Override
-    public void action() {
-        log.debug("Starting random event: '{}' for: '{}'", actionKey, element);
+    public double startAction() {
+        if (log.isDebugEnabled()) {
+            log.debug("Starting random event: '{}' for: '{}'", actionKey, element);
+        }
+        trace(element, TraceEventType.RANDOM_EVENT_STARTED);
 
         double delay = simulationGenerator.chisquare(1);
         simulationCoordinator.setRandomEventActionTime(delay);
 
-        await(delay);
-        log.debug("Random event: '{}' finished for: '{}'", actionKey, element);
-        callNextAction(element);
-        markExecuted();
+        return delay;
     }
 
-    public boolean isExecuted() {
-        return executed;
+    @Override
+    public double resumeAction() {
+        if (log.isDebugEnabled()) {
+            log.debug("Random event: '{}' finished for: '{}'", actionKey, element);
+        }
+        trace(element, TraceEventType.RANDOM_EVENT_FINISHED);
+        callNextAction(element);
+        pool.complete(this);
+        simulationCoordinator.addExecutedRandomEventAction(this);
+
+        return ACTION_FINISHED;
     }
 
-    public void markExecuted() {
-        this.executed = true;
+    @Override
+    public void onActionFinished() {
+        pool.release(this);
     }
 
     @Override
     public void terminateAction() {
         try {
-            terminate();
+            simulationCoordinator.getEngine().terminate(this);
         } catch (Exception e) {
             getLogger().error("Exception thrown during activity termination", e);
         }
     }
 
+    @Override
+    public void writeSnapshot(ObjectOutput out) throws IOException {
+        super.writeSnapshot(out);
+        out.writeInt(nextActionKey != null ? nextActionKey.ordinal() : -1);
+        out.writeBoolean(element != null);
+
+        if (element != null) {
+            simulationCoordinator.writeElement(out, element);
+        }
+    }
+
+    @Override
+    public void readSnapshot(ObjectInput in) throws IOException {
+        super.readSnapshot(in);
+        int nextActionKeyOrdinal = in.readInt();
+        nextActionKey = nextActionKeyOrdinal >= 0 ? ActionKey.values()[nextActionKeyOrdinal] : null;
+        element = in.readBoolean() ? simulationCoordinator.readElement(in) : null;
+    }
+
     @Override
     protected Logger getLogger() {
         return log;
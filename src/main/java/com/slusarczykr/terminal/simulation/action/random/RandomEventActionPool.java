@@ -0,0 +1,123 @@
+package com.slusarczykr.terminal.simulation.action.random;
+
+import com.slusarczykr.terminal.simulation.action.ActionKey;
+import com.slusarczykr.terminal.simulation.coordinator.SimulationCoordinator;
+
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public class RandomEventActionPool<T> {
+
+    public static final int DEFAULT_MAX_IDLE_ACTIONS = 64;
+
+    private final SimulationCoordinator<T> simulationCoordinator;
+    private final ActionKey actionKey;
+    private final Deque<RandomEventAction<T>> idleActions;
+    private final Map<Integer, RandomEventAction<T>> activeActions;
+    private final int maxIdleActions;
+    private long createdActions;
+
+    public RandomEventActionPool(SimulationCoordinator<T> simulationCoordinator, ActionKey actionKey) {
+        this(simulationCoordinator, actionKey, DEFAULT_MAX_IDLE_ACTIONS);
+    }
+
+    public RandomEventActionPool(SimulationCoordinator<T> simulationCoordinator, ActionKey actionKey, int maxIdleActions) {
+        if (!ActionKey.isRandomEvent(actionKey)) {
+            throw new IllegalArgumentException(String.format("Invalid random event action key: '%s'!", actionKey));
+        }
+        this.simulationCoordinator = simulationCoordinator;
+        this.actionKey = actionKey;
+        this.idleActions = new ArrayDeque<>(maxIdleActions);
+        this.activeActions = new LinkedHashMap<>();
+        this.maxIdleActions = maxIdleActions;
+    }
+
+    public synchronized RandomEventAction<T> acquire(ActionKey nextActionKey, T element) {
+        RandomEventAction<T> action = idleActions.pollFirst();
+
+        if (action == null) {
+            action = new RandomEventAction<>(simulationCoordinator, this, actionKey);
+            createdActions++;
+        }
+        action.assign(nextActionKey, element);
+        activeActions.put(action.getIndex(), action);
+
+        return action;
+    }
+
+    synchronized void complete(RandomEventAction<T> action) {
+        activeActions.remove(action.getIndex());
+    }
+
+    public synchronized void release(RandomEventAction<T> action) {
+        action.clear();
+
+        if (idleActions.size() < maxIdleActions) {
+            idleActions.offerFirst(action);
+        }
+    }
+
+    public ActionKey getActionKey() {
+        return actionKey;
+    }
+
+    public synchronized int getIdleActions() {
+        return idleActions.size();
+    }
+
+    public synchronized long getCreatedActions() {
+        return createdActions;
+    }
+
+    public synchronized int getActiveActions() {
+        return activeActions.size();
+    }
+
+    public synchronized Optional<RandomEventAction<T>> getActiveAction(int index) {
+        return Optional.ofNullable(activeActions.get(index));
+    }
+
+    public synchronized void writeSnapshot(ObjectOutput out) throws IOException {
+        out.writeLong(createdActions);
+        writeActions(out, idleActions);
+        writeActions(out, activeActions.values());
+    }
+
+    private void writeActions(ObjectOutput out, Collection<RandomEventAction<T>> actions) throws IOException {
+        out.writeInt(actions.size());
+
+        for (RandomEventAction<T> action : actions) {
+            out.writeInt(action.getIndex());
+            action.writeSnapshot(out);
+        }
+    }
+
+    public synchronized void readSnapshot(ObjectInput in) throws IOException {
+        createdActions = in.readLong();
+        idleActions.clear();
+        idleActions.addAll(readActions(in));
+        activeActions.clear();
+        readActions(in).forEach(it -> activeActions.put(it.getIndex(), it));
+    }
+
+    private List<RandomEventAction<T>> readActions(ObjectInput in) throws IOException {
+        int size = in.readInt();
+        List<RandomEventAction<T>> actions = new ArrayList<>(size);
+
+        for (int i = 0; i < size; i++) {
+            RandomEventAction<T> action = new RandomEventAction<>(simulationCoordinator, this, actionKey, in.readInt());
+            action.readSnapshot(in);
+            actions.add(action);
+        }
+        return actions;
+    }
+}
@@ -0,0 +1,52 @@
+package com.slusarczykr.terminal.simulation.airport;
+
+import com.slusarczykr.terminal.simulation.config.SimulationConfiguration;
+import com.slusarczykr.terminal.simulation.coordinator.TerminalSimulationCoordinator;
+import com.slusarczykr.terminal.simulation.engine.EngineType;
+import com.slusarczykr.terminal.simulation.random.RandomStream;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public abstract class AbstractAirportSimulation<T extends AirportTerminal> implements AirportSimulation {
+
+    protected final List<T> terminals;
+
+    protected AbstractAirportSimulation(SimulationConfiguration simulationConfig, AirportConfiguration airportConfig, long seed) {
+        if (simulationConfig.getEngineType() != EngineType.EVENT_CALENDAR) {
+            throw new UnsupportedOperationException(String.format("Engine: '%s' does not support airport simulations",
+                    simulationConfig.getEngineType()));
+        }
+        this.terminals = createTerminals(simulationConfig, airportConfig, seed);
+    }
+
+    private List<T> createTerminals(SimulationConfiguration simulationConfig, AirportConfiguration airportConfig, long seed) {
+        List<T> airportTerminals = new ArrayList<>(airportConfig.getTerminals());
+
+        for (int i = 0; i < airportConfig.getTerminals(); i++) {
+            TerminalSimulationCoordinator simulationCoordinator = new TerminalSimulationCoordinator(simulationConfig, RandomStream.deriveSeed(seed, i));
+            airportTerminals.add(createTerminal(i, simulationCoordinator, simulationConfig, airportConfig));
+        }
+        for (T source : airportTerminals) {
+            airportTerminals.stream()
+                    .filter(it -> it != source)
+                    .forEach(it -> connect(source, it));
+        }
+        return airportTerminals;
+    }
+
+    protected abstract T createTerminal(int index, TerminalSimulationCoordinator simulationCoordinator,
+                                        SimulationConfiguration simulationConfig, AirportConfiguration airportConfig);
+
+    protected abstract void connect(T source, T destination);
+
+    protected double getStopTime() {
+        return terminals.get(0).getSimulationCoordinator().simManager.getStopTime();
+    }
+
+    @Override
+    public List<T> getTerminals() {
+        return Collections.unmodifiableList(terminals);
+    }
+}
@@ -0,0 +1,102 @@
+package com.slusarczykr.terminal.simulation.airport;
+
+import com.slusarczykr.terminal.simulation.time.SimulationTime;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+public class AirportConfiguration {
+
+    private static final int DEFAULT_TERMINALS = 1;
+    private static final int MIN_TERMINALS = 1;
+    private static final int MAX_TERMINALS = 64;
+    private static final double DEFAULT_TRANSFER_PROBABILITY = 0.1;
+    private static final double MIN_TRANSFER_PROBABILITY = 0.0;
+    private static final double MAX_TRANSFER_PROBABILITY = 1.0;
+    private static final Duration DEFAULT_MIN_TRANSFER_TIME = Duration.ofSeconds(5);
+    private static final Duration MIN_MIN_TRANSFER_TIME = Duration.ofMillis(1);
+    private static final Duration MAX_MIN_TRANSFER_TIME = Duration.ofHours(1);
+    private static final SynchronizationMode DEFAULT_SYNCHRONIZATION_MODE = SynchronizationMode.CONSERVATIVE;
+    private static final Duration DEFAULT_OPTIMISTIC_WINDOW = Duration.ofSeconds(30);
+    private static final Duration MIN_OPTIMISTIC_WINDOW = Duration.ofMillis(1);
+    private static final Duration MAX_OPTIMISTIC_WINDOW = Duration.ofHours(1);
+
+    private int terminals;
+    private double transferProbability;
+    private Duration minTransferTime;
+    private SynchronizationMode synchronizationMode;
+    private Duration optimisticWindow;
+
+    public AirportConfiguration() {
+        this.terminals = DEFAULT_TERMINALS;
+        this.transferProbability = DEFAULT_TRANSFER_PROBABILITY;
+        this.minTransferTime = DEFAULT_MIN_TRANSFER_TIME;
+        this.synchronizationMode = DEFAULT_SYNCHRONIZATION_MODE;
+        this.optimisticWindow = DEFAULT_OPTIMISTIC_WINDOW;
+    }
+
+    public boolean isMultiTerminal() {
+        return terminals > 1;
+    }
+
+    public int getTerminals() {
+        return terminals;
+    }
+
+    public void setTerminals(int terminals) {
+        if (terminals < MIN_TERMINALS || terminals > MAX_TERMINALS) {
+            throw new IllegalArgumentException(String.format("Invalid terminals number value! Valid range: %d - %d",
+                    MIN_TERMINALS, MAX_TERMINALS));
+        }
+        this.terminals = terminals;
+    }
+
+    public double getTransferProbability() {
+        return transferProbability;
+    }
+
+    public void setTransferProbability(double transferProbability) {
+        if (transferProbability < MIN_TRANSFER_PROBABILITY || transferProbability > MAX_TRANSFER_PROBABILITY) {
+            throw new IllegalArgumentException(String.format("Invalid transfer probability value! Valid range: %.2f - %.2f",
+                    MIN_TRANSFER_PROBABILITY, MAX_TRANSFER_PROBABILITY));
+        }
+        this.transferProbability = transferProbability;
+    }
+
+    public double getMinTransferTime() {
+        return SimulationTime.of(minTransferTime);
+    }
+
+    public void setMinTransferTime(Duration minTransferTime) {
+        if (minTransferTime.compareTo(MIN_MIN_TRANSFER_TIME) < 0 || minTransferTime.compareTo(MAX_MIN_TRANSFER_TIME) > 0) {
+            throw new IllegalArgumentException(String.format("Invalid minimum transfer time value! Valid range: %d - %d milliseconds",
+                    MIN_MIN_TRANSFER_TIME.toMillis(), MAX_MIN_TRANSFER_TIME.toMillis()));
+        }
+        this.minTransferTime = minTransferTime;
+    }
+
+    public SynchronizationMode getSynchronizationMode() {
+        return synchronizationMode;
+    }
+
+    public void setSynchronizationMode(String synchronizationMode) {
+        try {
+            this.synchronizationMode = SynchronizationMode.valueOf(synchronizationMode.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(String.format("Invalid synchronization mode: '%s'! Valid values: %s",
+                    synchronizationMode, Arrays.toString(SynchronizationMode.values())));
+        }
+    }
+
+    public double getOptimisticWindow() {
+        return SimulationTime.of(optimisticWindow);
+    }
+
+    public void setOptimisticWindow(Duration optimisticWindow) {
+        if (optimisticWindow.compareTo(MIN_OPTIMISTIC_WINDOW) < 0 || optimisticWindow.compareTo(MAX_OPTIMISTIC_WINDOW) > 0) {
+            throw new IllegalArgumentException(String.format("Invalid optimistic window value! Valid range: %d - %d milliseconds",
+                    MIN_OPTIMISTIC_WINDOW.toMillis(), MAX_OPTIMISTIC_WINDOW.toMillis()));
+        }
+        this.optimisticWindow = optimisticWindow;
+    }
+}
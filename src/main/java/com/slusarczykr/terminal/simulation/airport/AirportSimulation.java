@@ -0,0 +1,12 @@
+package com.slusarczykr.terminal.simulation.airport;
+
+import java.util.List;
+
+public interface AirportSimulation {
+
+    SynchronizationMode getSynchronizationMode();
+
+    void run();
+
+    List<? extends AirportTerminal> getTerminals();
+}
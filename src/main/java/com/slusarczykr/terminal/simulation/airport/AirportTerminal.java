@@ -0,0 +1,14 @@
+package com.slusarczykr.terminal.simulation.airport;
+
+import com.slusarczykr.terminal.simulation.coordinator.TerminalSimulationCoordinator;
+
+public interface AirportTerminal {
+
+    int getIndex();
+
+    TerminalSimulationCoordinator getSimulationCoordinator();
+
+    long getSentTransfers();
+
+    long getReceivedTransfers();
+}
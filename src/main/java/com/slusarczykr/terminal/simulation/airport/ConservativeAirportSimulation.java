@@ -0,0 +1,63 @@
+package com.slusarczykr.terminal.simulation.airport;
+
+import com.slusarczykr.terminal.simulation.config.SimulationConfiguration;
+import com.slusarczykr.terminal.simulation.coordinator.TerminalSimulationCoordinator;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+public class ConservativeAirportSimulation extends AbstractAirportSimulation<TerminalProcess> {
+
+    private static final Logger log = LogManager.getLogger(ConservativeAirportSimulation.class);
+
+    public ConservativeAirportSimulation(SimulationConfiguration simulationConfig, AirportConfiguration airportConfig, long seed) {
+        super(simulationConfig, airportConfig, seed);
+    }
+
+    @Override
+    protected TerminalProcess createTerminal(int index, TerminalSimulationCoordinator simulationCoordinator,
+                                             SimulationConfiguration simulationConfig, AirportConfiguration airportConfig) {
+        return new TerminalProcess(index, simulationCoordinator, airportConfig.getMinTransferTime(), airportConfig.getTransferProbability());
+    }
+
+    @Override
+    protected void connect(TerminalProcess source, TerminalProcess destination) {
+        source.connect(destination);
+    }
+
+    @Override
+    public SynchronizationMode getSynchronizationMode() {
+        return SynchronizationMode.CONSERVATIVE;
+    }
+
+    @Override
+    public void run() {
+        log.info("Starting airport simulation with {} terminals", terminals.size());
+        ExecutorService executor = Executors.newFixedThreadPool(terminals.size());
+        try {
+            List<Future<?>> futures = terminals.stream()
+                    .map(it -> executor.submit(() -> {
+                        it.run();
+                        return it;
+                    }))
+                    .collect(Collectors.toList());
+
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Airport simulation interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Airport simulation failed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.slusarczykr.terminal.simulation.airport;
+
+import com.slusarczykr.terminal.simulation.config.SimulationConfiguration;
+import com.slusarczykr.terminal.simulation.coordinator.TerminalSimulationCoordinator;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+public class OptimisticAirportSimulation extends AbstractAirportSimulation<SpeculativeTerminalProcess> {
+
+    private static final Logger log = LogManager.getLogger(OptimisticAirportSimulation.class);
+
+    private final double window;
+    private final int parallelism;
+    private long rounds;
+    private long executions;
+    private long cancelledTransfers;
+
+    public OptimisticAirportSimulation(SimulationConfiguration simulationConfig, AirportConfiguration airportConfig, long seed) {
+        this(simulationConfig, airportConfig, seed, Math.min(airportConfig.getTerminals(), Runtime.getRuntime().availableProcessors()));
+    }
+
+    public OptimisticAirportSimulation(SimulationConfiguration simulationConfig, AirportConfiguration airportConfig, long seed, int parallelism) {
+        super(simulationConfig, airportConfig, seed);
+        if (simulationConfig.getTraceFile().isPresent() || simulationConfig.isMonitoredHistoryEnabled()) {
+            throw new UnsupportedOperationException("Optimistic airport simulations do not support event tracing and monitored history");
+        }
+        this.window = airportConfig.getOptimisticWindow();
+        this.parallelism = parallelism;
+    }
+
+    @Override
+    protected SpeculativeTerminalProcess createTerminal(int index, TerminalSimulationCoordinator simulationCoordinator,
+                                                        SimulationConfiguration simulationConfig, AirportConfiguration airportConfig) {
+        return new SpeculativeTerminalProcess(index, simulationCoordinator, airportConfig.getMinTransferTime(), airportConfig.getTransferProbability());
+    }
+
+    @Override
+    protected void connect(SpeculativeTerminalProcess source, SpeculativeTerminalProcess destination) {
+        source.connect(destination);
+    }
+
+    @Override
+    public SynchronizationMode getSynchronizationMode() {
+        return SynchronizationMode.OPTIMISTIC;
+    }
+
+    @Override
+    public void run() {
+        log.info("Starting optimistic airport simulation with {} terminals and parallelism {}", terminals.size(), parallelism);
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        double stopTime = getStopTime();
+        double gvt = 0.0;
+        try {
+            while (gvt <= stopTime) {
+                double windowEnd = gvt + window;
+                List<SpeculativeTerminalProcess> pendingTerminals = terminals;
+
+                while (!pendingTerminals.isEmpty()) {
+                    execute(pool, pendingTerminals, windowEnd, stopTime);
+                    pendingTerminals = exchangeTransfers(pendingTerminals, windowEnd);
+                }
+                for (SpeculativeTerminalProcess terminal : terminals) {
+                    terminal.commit(windowEnd);
+                }
+                gvt = windowEnd;
+                rounds++;
+            }
+            log.info("Optimistic airport simulation finished after {} rounds, {} terminal executions, {} rollbacks and {} cancelled transfers",
+                    rounds, executions, getRollbacks(), cancelledTransfers);
+        } finally {
+            pool.shutdownNow();
+            terminals.forEach(it -> it.getSimulationCoordinator().stop());
+        }
+    }
+
+    private void execute(ForkJoinPool pool, List<SpeculativeTerminalProcess> pendingTerminals, double windowEnd, double stopTime) {
+        List<Callable<SpeculativeTerminalProcess>> tasks = pendingTerminals.stream()
+                .map(it -> (Callable<SpeculativeTerminalProcess>) () -> {
+                    it.execute(windowEnd, stopTime);
+                    return it;
+                })
+                .collect(Collectors.toList());
+        try {
+            for (Future<SpeculativeTerminalProcess> future : pool.invokeAll(tasks)) {
+                future.get();
+            }
+            executions += tasks.size();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Airport simulation interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Airport simulation failed", e.getCause());
+        }
+    }
+
+    private List<SpeculativeTerminalProcess> exchangeTransfers(List<SpeculativeTerminalProcess> executedTerminals, double windowEnd) {
+        Set<SpeculativeTerminalProcess> stragglerTerminals = new TreeSet<>(Comparator.comparingInt(SpeculativeTerminalProcess::getIndex));
+
+        for (SpeculativeTerminalProcess source : executedTerminals) {
+            for (TransferMessage message : source.getCancelledTransfers()) {
+                SpeculativeTerminalProcess destination = terminals.get(message.getDestinationTerminal());
+                cancelledTransfers++;
+
+                if (destination.cancel(message) && message.getArrivalTime() < windowEnd) {
+                    stragglerTerminals.add(destination);
+                }
+            }
+            for (TransferMessage message : source.getNewTransfers()) {
+                SpeculativeTerminalProcess destination = terminals.get(message.getDestinationTerminal());
+                destination.receive(message);
+
+                if (message.getArrivalTime() < windowEnd) {
+                    stragglerTerminals.add(destination);
+                }
+            }
+            source.publishTransfers();
+        }
+        return new ArrayList<>(stragglerTerminals);
+    }
+
+    public long getRollbacks() {
+        return terminals.stream()
+                .mapToLong(SpeculativeTerminalProcess::getRollbacks)
+                .sum();
+    }
+
+    public long getRounds() {
+        return rounds;
+    }
+
+    public long getExecutions() {
+        return executions;
+    }
+
+    public long getCancelledTransfers() {
+        return cancelledTransfers;
+    }
+}
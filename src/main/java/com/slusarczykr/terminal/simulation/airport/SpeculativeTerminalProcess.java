@@ -0,0 +1,185 @@
+package com.slusarczykr.terminal.simulation.airport;
+
+import com.slusarczykr.terminal.simulation.coordinator.TerminalSimulationCoordinator;
+import com.slusarczykr.terminal.simulation.model.Passenger;
+import com.slusarczykr.terminal.simulation.random.RandomStream;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+public class SpeculativeTerminalProcess implements AirportTerminal, TransferListener {
+
+    private final int index;
+    private final double lookahead;
+    private final double transferProbability;
+    private final RandomStream random;
+    private final RandomStream admissionRandom;
+    private final List<SpeculativeTerminalProcess> destinations;
+    private final NavigableSet<TransferMessage> inputQueue;
+    private final Set<TransferMessage> publishedTransfers;
+    private final Set<TransferMessage> executionTransfers;
+    private final TerminalSimulationCoordinator simulationCoordinator;
+    private byte[] coordinatorState;
+    private byte[] randomState;
+    private long savedTransferSequence;
+    private boolean executed;
+    private long transferSequence;
+    private long sentTransfers;
+    private long receivedTransfers;
+    private long rollbacks;
+
+    public SpeculativeTerminalProcess(int index, TerminalSimulationCoordinator simulationCoordinator, double lookahead, double transferProbability) {
+        this.index = index;
+        this.simulationCoordinator = simulationCoordinator;
+        this.lookahead = lookahead;
+        this.transferProbability = transferProbability;
+        this.random = simulationCoordinator.createRandomStream();
+        this.admissionRandom = simulationCoordinator.createRandomStream();
+        this.destinations = new ArrayList<>();
+        this.inputQueue = new TreeSet<>(TransferMessage.DELIVERY_ORDER);
+        this.publishedTransfers = new LinkedHashSet<>();
+        this.executionTransfers = new LinkedHashSet<>();
+        simulationCoordinator.setTransferListener(this);
+    }
+
+    public void connect(SpeculativeTerminalProcess destination) {
+        destinations.add(destination);
+    }
+
+    public void execute(double windowEnd, double stopTime) {
+        if (executed) {
+            rollback();
+        } else {
+            simulationCoordinator.startIfRequired();
+            saveState();
+            executed = true;
+        }
+        executionTransfers.clear();
+
+        for (TransferMessage message : inputQueue) {
+            if (message.getArrivalTime() >= windowEnd) {
+                break;
+            }
+            simulationCoordinator.acceptTransfer(message.getArrivalTime(), message.getGenerationTime(), admissionRandom);
+        }
+        simulationCoordinator.runUntil(windowEnd > stopTime ? stopTime : Math.nextDown(windowEnd));
+    }
+
+    @Override
+    public boolean transfer(Passenger passenger) {
+        if (destinations.isEmpty() || random.nextDouble() >= transferProbability) {
+            return false;
+        }
+        SpeculativeTerminalProcess destination = destinations.get(random.nextInt(destinations.size()));
+        double arrivalTime = simulationCoordinator.getSimTime() + lookahead * (1.0 + random.nextDouble());
+        executionTransfers.add(new TransferMessage(arrivalTime, passenger.getGenerationTime(), index, destination.getIndex(), transferSequence++));
+
+        return true;
+    }
+
+    public List<TransferMessage> getCancelledTransfers() {
+        return publishedTransfers.stream()
+                .filter(it -> !executionTransfers.contains(it))
+                .collect(Collectors.toList());
+    }
+
+    public List<TransferMessage> getNewTransfers() {
+        return executionTransfers.stream()
+                .filter(it -> !publishedTransfers.contains(it))
+                .collect(Collectors.toList());
+    }
+
+    public void publishTransfers() {
+        publishedTransfers.clear();
+        publishedTransfers.addAll(executionTransfers);
+    }
+
+    public void receive(TransferMessage message) {
+        inputQueue.add(message);
+    }
+
+    public boolean cancel(TransferMessage message) {
+        return inputQueue.remove(message);
+    }
+
+    public void commit(double windowEnd) {
+        while (!inputQueue.isEmpty() && inputQueue.first().getArrivalTime() < windowEnd) {
+            inputQueue.pollFirst();
+            receivedTransfers++;
+        }
+        sentTransfers += publishedTransfers.size();
+        publishedTransfers.clear();
+        executionTransfers.clear();
+        coordinatorState = null;
+        randomState = null;
+        executed = false;
+    }
+
+    private void rollback() {
+        try {
+            simulationCoordinator.readSnapshot(new ByteArrayInputStream(coordinatorState));
+
+            try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(randomState))) {
+                random.readSnapshot(in);
+                admissionRandom.readSnapshot(in);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        transferSequence = savedTransferSequence;
+        rollbacks++;
+    }
+
+    private void saveState() {
+        try {
+            ByteArrayOutputStream coordinatorBytes = new ByteArrayOutputStream();
+            simulationCoordinator.writeSnapshot(coordinatorBytes);
+            ByteArrayOutputStream randomBytes = new ByteArrayOutputStream();
+
+            try (ObjectOutputStream out = new ObjectOutputStream(randomBytes)) {
+                random.writeSnapshot(out);
+                admissionRandom.writeSnapshot(out);
+            }
+            coordinatorState = coordinatorBytes.toByteArray();
+            randomState = randomBytes.toByteArray();
+            savedTransferSequence = transferSequence;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public int getIndex() {
+        return index;
+    }
+
+    @Override
+    public TerminalSimulationCoordinator getSimulationCoordinator() {
+        return simulationCoordinator;
+    }
+
+    @Override
+    public long getSentTransfers() {
+        return sentTransfers;
+    }
+
+    @Override
+    public long getReceivedTransfers() {
+        return receivedTransfers;
+    }
+
+    public long getRollbacks() {
+        return rollbacks;
+    }
+}
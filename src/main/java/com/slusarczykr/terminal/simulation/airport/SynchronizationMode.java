@@ -0,0 +1,6 @@
+package com.slusarczykr.terminal.simulation.airport;
+
+public enum SynchronizationMode {
+    CONSERVATIVE,
+    OPTIMISTIC;
+}
@@ -0,0 +1,44 @@
+package com.slusarczykr.terminal.simulation.airport;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+public class TerminalChannel {
+
+    private final TerminalProcess destination;
+    private final Queue<TransferMessage> messages;
+    private volatile double clock;
+
+    public TerminalChannel(TerminalProcess destination, double clock) {
+        this.destination = destination;
+        this.messages = new ConcurrentLinkedQueue<>();
+        this.clock = clock;
+    }
+
+    public void send(TransferMessage message) {
+        if (message.getArrivalTime() < clock) {
+            throw new IllegalStateException(String.format("Transfer message at %.3f violates channel clock %.3f",
+                    message.getArrivalTime(), clock));
+        }
+        messages.add(message);
+    }
+
+    public void advance(double time) {
+        if (time > clock) {
+            clock = time;
+            destination.signal();
+        }
+    }
+
+    public TerminalProcess getDestination() {
+        return destination;
+    }
+
+    public double getClock() {
+        return clock;
+    }
+
+    public TransferMessage poll() {
+        return messages.poll();
+    }
+}
@@ -0,0 +1,156 @@
+package com.slusarczykr.terminal.simulation.airport;
+
+import com.slusarczykr.terminal.simulation.coordinator.TerminalSimulationCoordinator;
+import com.slusarczykr.terminal.simulation.model.Passenger;
+import com.slusarczykr.terminal.simulation.random.RandomStream;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+
+public class TerminalProcess implements AirportTerminal, TransferListener {
+
+    private static final Logger log = LogManager.getLogger(TerminalProcess.class);
+
+    private final int index;
+    private final TerminalSimulationCoordinator simulationCoordinator;
+    private final double lookahead;
+    private final double transferProbability;
+    private final RandomStream random;
+    private final RandomStream admissionRandom;
+    private final List<TerminalChannel> inboundChannels;
+    private final List<TerminalChannel> outboundChannels;
+    private final PriorityQueue<TransferMessage> pendingTransfers;
+    private final Object clockLock;
+    private long transferSequence;
+    private long sentTransfers;
+    private long receivedTransfers;
+    private long synchronizationRounds;
+
+    public TerminalProcess(int index, TerminalSimulationCoordinator simulationCoordinator, double lookahead, double transferProbability) {
+        this.index = index;
+        this.simulationCoordinator = simulationCoordinator;
+        this.lookahead = lookahead;
+        this.transferProbability = transferProbability;
+        this.random = simulationCoordinator.createRandomStream();
+        this.admissionRandom = simulationCoordinator.createRandomStream();
+        this.inboundChannels = new ArrayList<>();
+        this.outboundChannels = new ArrayList<>();
+        this.pendingTransfers = new PriorityQueue<>(TransferMessage.DELIVERY_ORDER);
+        this.clockLock = new Object();
+        simulationCoordinator.setTransferListener(this);
+    }
+
+    public void connect(TerminalProcess destination) {
+        TerminalChannel channel = new TerminalChannel(destination, lookahead);
+        outboundChannels.add(channel);
+        destination.inboundChannels.add(channel);
+    }
+
+    public void run() throws InterruptedException {
+        double stopTime = simulationCoordinator.simManager.getStopTime();
+        double safeTime = 0.0;
+        try {
+            while (safeTime <= stopTime) {
+                safeTime = awaitSafeTime(safeTime);
+                deliverTransfers(safeTime);
+
+                if (safeTime <= stopTime) {
+                    simulationCoordinator.runUntil(Math.nextDown(safeTime));
+                    synchronizationRounds++;
+                    advanceOutboundChannels(safeTime + lookahead);
+                }
+            }
+            simulationCoordinator.runUntil(stopTime);
+            log.info("Terminal: '{}' finished after {} synchronization rounds, sent {} and received {} transfer passengers",
+                    index, synchronizationRounds, sentTransfers, receivedTransfers);
+        } finally {
+            advanceOutboundChannels(Double.POSITIVE_INFINITY);
+            simulationCoordinator.stop();
+        }
+    }
+
+    @Override
+    public boolean transfer(Passenger passenger) {
+        if (outboundChannels.isEmpty() || random.nextDouble() >= transferProbability) {
+            return false;
+        }
+        TerminalChannel channel = outboundChannels.get(random.nextInt(outboundChannels.size()));
+        double arrivalTime = simulationCoordinator.getSimTime() + lookahead * (1.0 + random.nextDouble());
+        channel.send(new TransferMessage(arrivalTime, passenger.getGenerationTime(), index, channel.getDestination().getIndex(), transferSequence++));
+        sentTransfers++;
+
+        return true;
+    }
+
+    private double awaitSafeTime(double safeTime) throws InterruptedException {
+        synchronized (clockLock) {
+            double inboundClock;
+
+            while ((inboundClock = getInboundClock()) <= safeTime) {
+                clockLock.wait();
+            }
+            return inboundClock;
+        }
+    }
+
+    private double getInboundClock() {
+        double inboundClock = Double.POSITIVE_INFINITY;
+
+        for (TerminalChannel channel : inboundChannels) {
+            inboundClock = Math.min(inboundClock, channel.getClock());
+        }
+        return inboundClock;
+    }
+
+    private void deliverTransfers(double safeTime) {
+        for (TerminalChannel channel : inboundChannels) {
+            TransferMessage message;
+
+            while ((message = channel.poll()) != null) {
+                pendingTransfers.add(message);
+            }
+        }
+        while (!pendingTransfers.isEmpty() && pendingTransfers.peek().getArrivalTime() < safeTime) {
+            TransferMessage message = pendingTransfers.poll();
+            simulationCoordinator.acceptTransfer(message.getArrivalTime(), message.getGenerationTime(), admissionRandom);
+            receivedTransfers++;
+        }
+    }
+
+    private void advanceOutboundChannels(double time) {
+        outboundChannels.forEach(it -> it.advance(time));
+    }
+
+    void signal() {
+        synchronized (clockLock) {
+            clockLock.notifyAll();
+        }
+    }
+
+    @Override
+    public int getIndex() {
+        return index;
+    }
+
+    @Override
+    public TerminalSimulationCoordinator getSimulationCoordinator() {
+        return simulationCoordinator;
+    }
+
+    @Override
+    public long getSentTransfers() {
+        return sentTransfers;
+    }
+
+    @Override
+    public long getReceivedTransfers() {
+        return receivedTransfers;
+    }
+
+    public long getSynchronizationRounds() {
+        return synchronizationRounds;
+    }
+}
@@ -0,0 +1,8 @@
+package com.slusarczykr.terminal.simulation.airport;
+
+import com.slusarczykr.terminal.simulation.model.Passenger;
+
+public interface TransferListener {
+
+    boolean transfer(Passenger passenger);
+}
@@ -0,0 +1,66 @@
+package com.slusarczykr.terminal.simulation.airport;
+
+import java.util.Comparator;
+import java.util.Objects;
+
+public class TransferMessage {
+
+    public static final Comparator<TransferMessage> DELIVERY_ORDER = Comparator.comparingDouble(TransferMessage::getArrivalTime)
+            .thenComparingInt(TransferMessage::getSourceTerminal)
+            .thenComparingLong(TransferMessage::getSequence);
+
+    private final double arrivalTime;
+    private final double generationTime;
+    private final int sourceTerminal;
+    private final int destinationTerminal;
+    private final long sequence;
+
+    public TransferMessage(double arrivalTime, double generationTime, int sourceTerminal, int destinationTerminal, long sequence) {
+        this.arrivalTime = arrivalTime;
+        this.generationTime = generationTime;
+        this.sourceTerminal = sourceTerminal;
+        this.destinationTerminal = destinationTerminal;
+        this.sequence = sequence;
+    }
+
+    public double getArrivalTime() {
+        return arrivalTime;
+    }
+
+    public double getGenerationTime() {
+        return generationTime;
+    }
+
+    public int getSourceTerminal() {
+        return sourceTerminal;
+    }
+
+    public int getDestinationTerminal() {
+        return destinationTerminal;
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        TransferMessage that = (TransferMessage) o;
+        return Double.compare(that.arrivalTime, arrivalTime) == 0
+                && Double.compare(that.generationTime, generationTime) == 0
+                && sourceTerminal == that.sourceTerminal
+                && destinationTerminal == that.destinationTerminal
+                && sequence == that.sequence;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(arrivalTime, generationTime, sourceTerminal, destinationTerminal, sequence);
+    }
+}
@@ -0,0 +1,6 @@
+package com.slusarczykr.terminal.simulation.arrival;
+
+public enum ArrivalMode {
+    STATIONARY,
+    SCHEDULED;
+}
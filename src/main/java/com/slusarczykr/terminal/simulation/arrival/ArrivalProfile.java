@@ -0,0 +1,30 @@
+package com.slusarczykr.terminal.simulation.arrival;
+
+public final class ArrivalProfile {
+
+    private static final double PEAK_START = 1.0 / 3.0;
+    private static final double PEAK_END = 2.0 / 3.0;
+    private static final double CLOSING = 0.85;
+
+    private static final double RAMP_UP_AREA = PEAK_START / 2;
+    private static final double PEAK_AREA = RAMP_UP_AREA + (PEAK_END - PEAK_START);
+    private static final double TOTAL_AREA = PEAK_AREA + (CLOSING - PEAK_END) / 2;
+
+    private ArrivalProfile() {
+    }
+
+    public static double toWindowFraction(double probability) {
+        if (probability < 0.0 || probability > 1.0) {
+            throw new IllegalArgumentException(String.format("Invalid probability value! Valid range: 0.00 - 1.00: %.2f", probability));
+        }
+        double area = probability * TOTAL_AREA;
+
+        if (area <= RAMP_UP_AREA) {
+            return Math.sqrt(2 * area * PEAK_START);
+        } else if (area <= PEAK_AREA) {
+            return PEAK_START + area - RAMP_UP_AREA;
+        }
+        double closingRamp = CLOSING - PEAK_END;
+        return CLOSING - Math.sqrt(Math.max(0.0, closingRamp * closingRamp - 2 * (area - PEAK_AREA) * closingRamp));
+    }
+}
@@ -0,0 +1,73 @@
+package com.slusarczykr.terminal.simulation.arrival;
+
+import com.slusarczykr.terminal.simulation.random.RandomStream;
+
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+
+public class ArrivalSchedule {
+
+    private final Map<Integer, FlightArrivals> flightArrivals;
+    private final Consumer<FlightArrivals> arrivalHandler;
+
+    public ArrivalSchedule(Consumer<FlightArrivals> arrivalHandler) {
+        this.flightArrivals = new TreeMap<>();
+        this.arrivalHandler = arrivalHandler;
+    }
+
+    public synchronized Optional<FlightArrivals> add(int flightId, double openTime, double departureTime, int arrivals, RandomStream random) {
+        FlightArrivals scheduledArrivals = new FlightArrivals(flightId, openTime, departureTime, arrivals, arrivalHandler);
+
+        if (scheduledArrivals.advance(random)) {
+            flightArrivals.put(flightId, scheduledArrivals);
+            return Optional.of(scheduledArrivals);
+        }
+        return Optional.empty();
+    }
+
+    public synchronized boolean advance(FlightArrivals arrivals, RandomStream random) {
+        if (arrivals.advance(random)) {
+            return true;
+        }
+        flightArrivals.remove(arrivals.getFlightId());
+        return false;
+    }
+
+    public synchronized Optional<FlightArrivals> get(int flightId) {
+        return Optional.ofNullable(flightArrivals.get(flightId));
+    }
+
+    public synchronized boolean isEmpty() {
+        return flightArrivals.isEmpty();
+    }
+
+    public synchronized int getScheduledFlights() {
+        return flightArrivals.size();
+    }
+
+    public synchronized void writeSnapshot(ObjectOutput out) throws IOException {
+        List<FlightArrivals> snapshotArrivals = new ArrayList<>(flightArrivals.values());
+        out.writeInt(snapshotArrivals.size());
+
+        for (FlightArrivals arrivals : snapshotArrivals) {
+            arrivals.writeSnapshot(out);
+        }
+    }
+
+    public synchronized void readSnapshot(ObjectInput in) throws IOException {
+        int size = in.readInt();
+        flightArrivals.clear();
+
+        for (int i = 0; i < size; i++) {
+            FlightArrivals arrivals = FlightArrivals.readSnapshot(in, arrivalHandler);
+            flightArrivals.put(arrivals.getFlightId(), arrivals);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.slusarczykr.terminal.simulation.arrival;
+
+import com.slusarczykr.terminal.simulation.action.ActionKey;
+import com.slusarczykr.terminal.simulation.engine.SimulationEvent;
+import com.slusarczykr.terminal.simulation.random.RandomStream;
+
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.function.Consumer;
+
+import static com.slusarczykr.terminal.simulation.action.ActionKey.GENERATE_PASSENGER;
+
+public class FlightArrivals implements SimulationEvent {
+
+    private final int flightId;
+    private final double openTime;
+    private final double departureTime;
+    private final Consumer<FlightArrivals> arrivalHandler;
+    private int remainingArrivals;
+    private double arrivalProbability;
+    private double nextArrivalTime;
+
+    public FlightArrivals(int flightId, double openTime, double departureTime, int arrivals, Consumer<FlightArrivals> arrivalHandler) {
+        this.flightId = flightId;
+        this.openTime = openTime;
+        this.departureTime = departureTime;
+        this.remainingArrivals = arrivals;
+        this.arrivalHandler = arrivalHandler;
+    }
+
+    public boolean advance(RandomStream random) {
+        if (remainingArrivals == 0) {
+            return false;
+        }
+        arrivalProbability = 1.0 - (1.0 - arrivalProbability) * Math.pow(random.nextDouble(), 1.0 / remainingArrivals);
+        remainingArrivals--;
+        nextArrivalTime = openTime + (departureTime - openTime) * ArrivalProfile.toWindowFraction(Math.min(arrivalProbability, 1.0));
+
+        return true;
+    }
+
+    public int getFlightId() {
+        return flightId;
+    }
+
+    public double getNextArrivalTime() {
+        return nextArrivalTime;
+    }
+
+    public int getRemainingArrivals() {
+        return remainingArrivals;
+    }
+
+    @Override
+    public ActionKey getKey() {
+        return GENERATE_PASSENGER;
+    }
+
+    @Override
+    public int getIndex() {
+        return flightId;
+    }
+
+    @Override
+    public void fire() {
+        arrivalHandler.accept(this);
+    }
+
+    public void writeSnapshot(ObjectOutput out) throws IOException {
+        out.writeInt(flightId);
+        out.writeDouble(openTime);
+        out.writeDouble(departureTime);
+        out.writeInt(remainingArrivals);
+        out.writeDouble(arrivalProbability);
+        out.writeDouble(nextArrivalTime);
+    }
+
+    public static FlightArrivals readSnapshot(ObjectInput in, Consumer<FlightArrivals> arrivalHandler) throws IOException {
+        FlightArrivals flightArrivals = new FlightArrivals(in.readInt(), in.readDouble(), in.readDouble(), in.readInt(), arrivalHandler);
+        flightArrivals.arrivalProbability = in.readDouble();
+        flightArrivals.nextArrivalTime = in.readDouble();
+
+        return flightArrivals;
+    }
+}
@@ -1,11 +1,20 @@
 package com.slusarczykr.terminal.simulation.config;
 
 import com.slusarczykr.terminal.simulation.action.ActionKey;
+import com.slusarczykr.terminal.simulation.action.queue.OverflowPolicy;
+import com.slusarczykr.terminal.simulation.arrival.ArrivalMode;
+import com.slusarczykr.terminal.simulation.engine.EngineType;
+import com.slusarczykr.terminal.simulation.routing.RoutingStrategyType;
+import com.slusarczykr.terminal.simulation.time.SimulationTime;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.time.Duration;
+import java.util.Arrays;
 import java.util.EnumMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
 
 import static com.slusarczykr.terminal.simulation.action.ActionKey.CHECK_IN;
 import static com.slusarczykr.terminal.simulation.action.ActionKey.GENERATE_PASSENGER;
@@ -13,33 +22,104 @@ import static com.slusarczykr.terminal.simulation.action.ActionKey.SECURITY_CHEC
 
 public class SimulationConfiguration {
 
-    private static final int DEFAULT_SIMULATION_DURATION = 60;
-    private static final int MIN_SIMULATION_DURATION = 60;
-    private static final int MAX_SIMULATION_DURATION = 600;
+    private static final Duration DEFAULT_SIMULATION_DURATION = Duration.ofMinutes(1);
+    private static final Duration MIN_SIMULATION_DURATION = Duration.ofMinutes(1);
+    private static final Duration MAX_SIMULATION_DURATION = Duration.ofDays(7);
     private static final int DEFAULT_MAX_FLIGHTS_NUMBER = 10;
     private static final int MIN_FLIGHTS_NUMBER = 3;
-    private static final int MAX_FLIGHTS_NUMBER = 30;
+    private static final int MAX_FLIGHTS_NUMBER = 10_000;
     private static final double DEFAULT_RANDOM_EVENT_PROBABILITY = 0.1;
     private static final double MIN_RANDOM_EVENT_PROBABILITY = 0.01;
     private static final double MAX_RANDOM_EVENT_PROBABILITY = 1.0;
 
+    private static final ArrivalMode DEFAULT_ARRIVAL_MODE = ArrivalMode.STATIONARY;
+    private static final int DEFAULT_FLIGHT_CAPACITY = 400;
+    private static final int MIN_FLIGHT_CAPACITY = 1;
+    private static final int MAX_FLIGHT_CAPACITY = 1000;
+    private static final double DEFAULT_LOAD_FACTOR = 0.95;
+    private static final double MIN_LOAD_FACTOR = 0.01;
+    private static final double MAX_LOAD_FACTOR = 1.0;
+    private static final String TIMETABLE_FILE_PROPERTY = "simulation.timetable.file";
+    private static final Duration DEFAULT_TIMETABLE_OPEN_WINDOW = Duration.ofHours(2);
+    private static final Duration MIN_TIMETABLE_OPEN_WINDOW = Duration.ofSeconds(1);
+    private static final Duration MAX_TIMETABLE_OPEN_WINDOW = Duration.ofDays(1);
+
+    private static final String ENGINE_TYPE_PROPERTY = "simulation.engine";
+    private static final EngineType DEFAULT_ENGINE_TYPE = EngineType.EVENT_CALENDAR;
+    private static final String MONITORED_HISTORY_PROPERTY = "simulation.monitoredHistory";
+    private static final String TRACE_FILE_PROPERTY = "simulation.trace.file";
+    private static final int DEFAULT_TRACE_CAPACITY = 1 << 20;
+    private static final String METRICS_PORT_PROPERTY = "simulation.metrics.port";
+    private static final String METRICS_JMX_PROPERTY = "simulation.metrics.jmx";
+    private static final int DISABLED_METRICS_PORT = 0;
+    private static final int MAX_METRICS_PORT = 65535;
+
+    private static final RoutingStrategyType DEFAULT_ROUTING_STRATEGY_TYPE = RoutingStrategyType.RANDOM;
+
     private static final int MIN_ACTION_INSTANCES = 1;
     private static final int MAX_ACTION_INSTANCES = 10;
     private static final int DEFAULT_NON_QUEUE_ACTION_INSTANCES = 1;
     private static final int DEFAULT_QUEUE_ACTION_INSTANCES = 3;
+    private static final int MIN_BATCH_SIZE = 1;
+    private static final int MAX_BATCH_SIZE = 20;
+    private static final int DEFAULT_BATCH_SIZE = 1;
+    private static final int UNBOUNDED_QUEUE_CAPACITY = 0;
+    private static final int MAX_QUEUE_CAPACITY = 100_000;
+    private static final OverflowPolicy DEFAULT_OVERFLOW_POLICY = OverflowPolicy.REJECT;
 
-    private int simulationDuration;
+    private Duration simulationDuration;
     private int maxFlightsNumber;
     private double randomEventProbability;
+    private ArrivalMode arrivalMode;
+    private int flightCapacity;
+    private double loadFactor;
+    private Path timetableFile;
+    private Duration timetableOpenWindow;
+    private EngineType engineType;
+    private Long seed;
+    private boolean monitoredHistoryEnabled;
+    private Path traceFile;
+    private int traceCapacity;
+    private int metricsPort;
+    private boolean metricsJmxEnabled;
     private final Map<ActionKey, Action> actionConfigs;
 
     public SimulationConfiguration() {
-        this.simulationDuration = convertToMillis(DEFAULT_SIMULATION_DURATION);
+        this.simulationDuration = DEFAULT_SIMULATION_DURATION;
         this.maxFlightsNumber = DEFAULT_MAX_FLIGHTS_NUMBER;
         this.randomEventProbability = DEFAULT_RANDOM_EVENT_PROBABILITY;
+        this.arrivalMode = DEFAULT_ARRIVAL_MODE;
+        this.flightCapacity = DEFAULT_FLIGHT_CAPACITY;
+        this.loadFactor = DEFAULT_LOAD_FACTOR;
+        this.timetableFile = Optional.ofNullable(System.getProperty(TIMETABLE_FILE_PROPERTY))
+                .map(Paths::get)
+                .orElse(null);
+        this.timetableOpenWindow = DEFAULT_TIMETABLE_OPEN_WINDOW;
+        this.engineType = initEngineType();
+        this.monitoredHistoryEnabled = Boolean.getBoolean(MONITORED_HISTORY_PROPERTY);
+        this.traceFile = Optional.ofNullable(System.getProperty(TRACE_FILE_PROPERTY))
+                .map(Paths::get)
+                .orElse(null);
+        this.traceCapacity = DEFAULT_TRACE_CAPACITY;
+        this.metricsPort = Integer.getInteger(METRICS_PORT_PROPERTY, DISABLED_METRICS_PORT);
+        this.metricsJmxEnabled = Boolean.getBoolean(METRICS_JMX_PROPERTY);
         this.actionConfigs = initActionConfigs();
     }
 
+    private EngineType initEngineType() {
+        String engineType = System.getProperty(ENGINE_TYPE_PROPERTY, DEFAULT_ENGINE_TYPE.name());
+        return toEngineType(engineType);
+    }
+
+    private EngineType toEngineType(String engineType) {
+        try {
+            return EngineType.valueOf(engineType.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(String.format("Invalid simulation engine: '%s'! Valid values: %s",
+                    engineType, Arrays.toString(EngineType.values())));
+        }
+    }
+
     private Map<ActionKey, Action> initActionConfigs() {
         Map<ActionKey, Action> actionKeyToAction = new EnumMap<>(ActionKey.class);
         actionKeyToAction.put(GENERATE_PASSENGER, new Action(GENERATE_PASSENGER, DEFAULT_NON_QUEUE_ACTION_INSTANCES));
@@ -50,27 +130,23 @@ public class SimulationConfiguration {
     }
 
     public double getSimulationDuration() {
-        return simulationDuration;
+        return SimulationTime.of(simulationDuration);
     }
 
-    public double getSimulationDurationInSeconds() {
-        return convertToSeconds(simulationDuration);
+    public long getSimulationDurationInSeconds() {
+        return simulationDuration.getSeconds();
     }
 
-    public void setSimulationDuration(int simulationDuration) {
-        if (simulationDuration < MIN_SIMULATION_DURATION || simulationDuration > MAX_SIMULATION_DURATION) {
-            throw new IllegalArgumentException(String.format("Invalid simulation duration value! Valid range: %d - %d",
-                    MIN_SIMULATION_DURATION, MAX_SIMULATION_DURATION));
-        }
-        this.simulationDuration = convertToMillis(simulationDuration);
+    public void setSimulationDuration(long simulationDurationInSeconds) {
+        setSimulationDuration(Duration.ofSeconds(simulationDurationInSeconds));
     }
 
-    private int convertToMillis(int durationInSeconds) {
-        return (int) Duration.ofSeconds(durationInSeconds).toMillis();
-    }
-
-    private int convertToSeconds(int durationInMillis) {
-        return (int) Duration.ofMillis(durationInMillis).getSeconds();
+    public void setSimulationDuration(Duration simulationDuration) {
+        if (simulationDuration.compareTo(MIN_SIMULATION_DURATION) < 0 || simulationDuration.compareTo(MAX_SIMULATION_DURATION) > 0) {
+            throw new IllegalArgumentException(String.format("Invalid simulation duration value! Valid range: %d - %d seconds",
+                    MIN_SIMULATION_DURATION.getSeconds(), MAX_SIMULATION_DURATION.getSeconds()));
+        }
+        this.simulationDuration = simulationDuration;
     }
 
     public int getMaxFlightsNumber() {
@@ -97,6 +173,139 @@ public class SimulationConfiguration {
         return randomEventProbability;
     }
 
+    public ArrivalMode getArrivalMode() {
+        return arrivalMode;
+    }
+
+    public void setArrivalMode(String arrivalMode) {
+        try {
+            this.arrivalMode = ArrivalMode.valueOf(arrivalMode.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(String.format("Invalid arrival mode: '%s'! Valid values: %s",
+                    arrivalMode, Arrays.toString(ArrivalMode.values())));
+        }
+    }
+
+    public int getFlightCapacity() {
+        return flightCapacity;
+    }
+
+    public void setFlightCapacity(int flightCapacity) {
+        if (flightCapacity < MIN_FLIGHT_CAPACITY || flightCapacity > MAX_FLIGHT_CAPACITY) {
+            throw new IllegalArgumentException(String.format("Invalid flight capacity value! Valid range: %d - %d",
+                    MIN_FLIGHT_CAPACITY, MAX_FLIGHT_CAPACITY));
+        }
+        this.flightCapacity = flightCapacity;
+    }
+
+    public double getLoadFactor() {
+        return loadFactor;
+    }
+
+    public void setLoadFactor(double loadFactor) {
+        if (loadFactor < MIN_LOAD_FACTOR || loadFactor > MAX_LOAD_FACTOR) {
+            throw new IllegalArgumentException(String.format("Invalid load factor value! Valid range: %.2f - %.2f",
+                    MIN_LOAD_FACTOR, MAX_LOAD_FACTOR));
+        }
+        this.loadFactor = loadFactor;
+    }
+
+    public Optional<Path> getTimetableFile() {
+        return Optional.ofNullable(timetableFile);
+    }
+
+    public void setTimetableFile(String timetableFile) {
+        this.timetableFile = timetableFile == null || timetableFile.isEmpty() ? null : Paths.get(timetableFile);
+    }
+
+    public double getTimetableOpenWindow() {
+        return SimulationTime.of(timetableOpenWindow);
+    }
+
+    public Duration getTimetableOpenWindowDuration() {
+        return timetableOpenWindow;
+    }
+
+    public void setTimetableOpenWindow(Duration timetableOpenWindow) {
+        if (timetableOpenWindow.compareTo(MIN_TIMETABLE_OPEN_WINDOW) < 0 || timetableOpenWindow.compareTo(MAX_TIMETABLE_OPEN_WINDOW) > 0) {
+            throw new IllegalArgumentException(String.format("Invalid timetable open window value! Valid range: %d - %d seconds",
+                    MIN_TIMETABLE_OPEN_WINDOW.getSeconds(), MAX_TIMETABLE_OPEN_WINDOW.getSeconds()));
+        }
+        this.timetableOpenWindow = timetableOpenWindow;
+    }
+
+    public EngineType getEngineType() {
+        return engineType;
+    }
+
+    public void setEngineType(String engineType) {
+        this.engineType = toEngineType(engineType);
+    }
+
+    public boolean isSeedDefined() {
+        return seed != null;
+    }
+
+    public long getSeed() {
+        return Optional.ofNullable(seed)
+                .orElseGet(() -> ThreadLocalRandom.current().nextLong());
+    }
+
+    public void setSeed(Long seed) {
+        this.seed = seed;
+    }
+
+    public boolean isMonitoredHistoryEnabled() {
+        return monitoredHistoryEnabled;
+    }
+
+    public void setMonitoredHistoryEnabled(boolean monitoredHistoryEnabled) {
+        this.monitoredHistoryEnabled = monitoredHistoryEnabled;
+    }
+
+    public Optional<Path> getTraceFile() {
+        return Optional.ofNullable(traceFile);
+    }
+
+    public void setTraceFile(String traceFile) {
+        this.traceFile = traceFile == null || traceFile.isEmpty() ? null : Paths.get(traceFile);
+    }
+
+    public int getTraceCapacity() {
+        return traceCapacity;
+    }
+
+    public void setTraceCapacity(int traceCapacity) {
+        if (traceCapacity < 1) {
+            throw new IllegalArgumentException(String.format("Invalid event trace capacity value: %d!", traceCapacity));
+        }
+        this.traceCapacity = traceCapacity;
+    }
+
+    public int getMetricsPort() {
+        return metricsPort;
+    }
+
+    public void setMetricsPort(int metricsPort) {
+        if (metricsPort < DISABLED_METRICS_PORT || metricsPort > MAX_METRICS_PORT) {
+            throw new IllegalArgumentException(String.format("Invalid metrics port value! Valid range: %d - %d",
+                    DISABLED_METRICS_PORT, MAX_METRICS_PORT));
+        }
+        this.metricsPort = metricsPort;
+    }
+
+    public boolean isMetricsJmxEnabled() {
+        return metricsJmxEnabled;
+    }
+
+    public void setMetricsJmxEnabled(boolean metricsJmxEnabled) {
+        this.metricsJmxEnabled = metricsJmxEnabled;
+    }
+
+    public boolean isMetricsEnabled() {
+        return metricsPort != DISABLED_METRICS_PORT || metricsJmxEnabled;
+    }
+
     public int getActionInstances(ActionKey actionKey) {
         return Optional.ofNullable(actionConfigs.get(actionKey))
                 .map(Action::getActionInstances)
@@ -116,13 +325,107 @@ public class SimulationConfiguration {
         }
     }
 
+    public int getBatchSize(ActionKey actionKey) {
+        return Optional.ofNullable(actionConfigs.get(actionKey))
+                .map(Action::getBatchSize)
+                .orElse(DEFAULT_BATCH_SIZE);
+    }
+
+    public void setBatchSize(ActionKey actionKey, int batchSize) {
+        if (batchSize < MIN_BATCH_SIZE || batchSize > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException(String.format("Invalid batch size value! Valid range: %d - %d",
+                    MIN_BATCH_SIZE, MAX_BATCH_SIZE));
+        }
+        if (actionConfigs.containsKey(actionKey)) {
+            Action action = actionConfigs.get(actionKey);
+            action.setBatchSize(batchSize);
+        } else {
+            throw new IllegalArgumentException(String.format("Invalid action key: '%s'!", actionKey));
+        }
+    }
+
+    public int getQueueCapacity(ActionKey actionKey) {
+        return Optional.ofNullable(actionConfigs.get(actionKey))
+                .map(Action::getQueueCapacity)
+                .orElse(UNBOUNDED_QUEUE_CAPACITY);
+    }
+
+    public void setQueueCapacity(ActionKey actionKey, int queueCapacity) {
+        if (queueCapacity < UNBOUNDED_QUEUE_CAPACITY || queueCapacity > MAX_QUEUE_CAPACITY) {
+            throw new IllegalArgumentException(String.format("Invalid queue capacity value! Valid range: %d - %d (%d for unbounded queue)",
+                    UNBOUNDED_QUEUE_CAPACITY + 1, MAX_QUEUE_CAPACITY, UNBOUNDED_QUEUE_CAPACITY));
+        }
+        if (actionConfigs.containsKey(actionKey)) {
+            Action action = actionConfigs.get(actionKey);
+            action.setQueueCapacity(queueCapacity);
+        } else {
+            throw new IllegalArgumentException(String.format("Invalid action key: '%s'!", actionKey));
+        }
+    }
+
+    public OverflowPolicy getOverflowPolicy(ActionKey actionKey) {
+        return Optional.ofNullable(actionConfigs.get(actionKey))
+                .map(Action::getOverflowPolicy)
+                .orElse(DEFAULT_OVERFLOW_POLICY);
+    }
+
+    public void setOverflowPolicy(ActionKey actionKey, String overflowPolicy) {
+        if (actionConfigs.containsKey(actionKey)) {
+            Action action = actionConfigs.get(actionKey);
+            action.setOverflowPolicy(toOverflowPolicy(overflowPolicy));
+        } else {
+            throw new IllegalArgumentException(String.format("Invalid action key: '%s'!", actionKey));
+        }
+    }
+
+    private OverflowPolicy toOverflowPolicy(String overflowPolicy) {
+        try {
+            return OverflowPolicy.valueOf(overflowPolicy.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(String.format("Invalid overflow policy: '%s'! Valid values: %s",
+                    overflowPolicy, Arrays.toString(OverflowPolicy.values())));
+        }
+    }
+
+    public RoutingStrategyType getRoutingStrategyType(ActionKey actionKey) {
+        return Optional.ofNullable(actionConfigs.get(actionKey))
+                .map(Action::getRoutingStrategyType)
+                .orElse(DEFAULT_ROUTING_STRATEGY_TYPE);
+    }
+
+    public void setRoutingStrategyType(ActionKey actionKey, String routingStrategyType) {
+        if (actionConfigs.containsKey(actionKey)) {
+            Action action = actionConfigs.get(actionKey);
+            action.setRoutingStrategyType(toRoutingStrategyType(routingStrategyType));
+        } else {
+            throw new IllegalArgumentException(String.format("Invalid action key: '%s'!", actionKey));
+        }
+    }
+
+    private RoutingStrategyType toRoutingStrategyType(String routingStrategyType) {
+        try {
+            return RoutingStrategyType.valueOf(routingStrategyType.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(String.format("Invalid routing strategy: '%s'! Valid values: %s",
+                    routingStrategyType, Arrays.toString(RoutingStrategyType.values())));
+        }
+    }
+
     public static class Action {
         private ActionKey actionKey;
         private int actionInstances;
+        private RoutingStrategyType routingStrategyType;
+        private int batchSize;
+        private int queueCapacity;
+        private OverflowPolicy overflowPolicy;
 
         public Action(ActionKey actionKey, int actionInstances) {
             this.actionKey = actionKey;
             this.actionInstances = actionInstances;
+            this.routingStrategyType = DEFAULT_ROUTING_STRATEGY_TYPE;
+            this.batchSize = DEFAULT_BATCH_SIZE;
+            this.queueCapacity = UNBOUNDED_QUEUE_CAPACITY;
+            this.overflowPolicy = DEFAULT_OVERFLOW_POLICY;
         }
 
         public ActionKey getActionKey() {
@@ -140,5 +443,37 @@ public class SimulationConfiguration {
         public void setActionInstances(int actionInstances) {
             this.actionInstances = actionInstances;
         }
+
+        public RoutingStrategyType getRoutingStrategyType() {
+            return routingStrategyType;
+        }
+
+        public void setRoutingStrategyType(RoutingStrategyType routingStrategyType) {
+            this.routingStrategyType = routingStrategyType;
+        }
+
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        public void setBatchSize(int batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        public int getQueueCapacity() {
+            return queueCapacity;
+        }
+
+        public void setQueueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+        }
+
+        public OverflowPolicy getOverflowPolicy() {
+            return overflowPolicy;
+        }
+
+        public void setOverflowPolicy(OverflowPolicy overflowPolicy) {
+            this.overflowPolicy = overflowPolicy;
+        }
     }
 }
@@ -1,126 +1,268 @@
 package com.slusarczykr.terminal.simulation.coordinator;
 
+import com.slusarczykr.terminal.simulation.action.AbstractAction;
 import com.slusarczykr.terminal.simulation.action.Action;
 import com.slusarczykr.terminal.simulation.action.ActionKey;
-import com.slusarczykr.terminal.simulation.action.queue.ActionQueueState;
+import com.slusarczykr.terminal.simulation.action.queue.ActionQueue;
+import com.slusarczykr.terminal.simulation.action.queue.AdmissionControl;
+import com.slusarczykr.terminal.simulation.action.queue.OverflowPolicy;
 import com.slusarczykr.terminal.simulation.action.random.RandomEventAction;
-import deskit.SimActivity;
+import com.slusarczykr.terminal.simulation.action.random.RandomEventActionPool;
+import com.slusarczykr.terminal.simulation.engine.DESKitSimulationEngine;
+import com.slusarczykr.terminal.simulation.engine.EngineType;
+import com.slusarczykr.terminal.simulation.engine.EventCalendarSimulationEngine;
+import com.slusarczykr.terminal.simulation.engine.IsolatedSimManager;
+import com.slusarczykr.terminal.simulation.engine.SimulationEngine;
+import com.slusarczykr.terminal.simulation.engine.SimulationEvent;
+import com.slusarczykr.terminal.simulation.engine.VirtualThreadSimulationEngine;
+import com.slusarczykr.terminal.simulation.random.RandomStream;
+import com.slusarczykr.terminal.simulation.routing.JoinShortestQueueRoutingStrategy;
+import com.slusarczykr.terminal.simulation.routing.LeastExpectedWorkRoutingStrategy;
+import com.slusarczykr.terminal.simulation.routing.PowerOfTwoChoicesRoutingStrategy;
+import com.slusarczykr.terminal.simulation.routing.RandomRoutingStrategy;
+import com.slusarczykr.terminal.simulation.routing.RoundRobinRoutingStrategy;
+import com.slusarczykr.terminal.simulation.routing.RoutingStrategy;
+import com.slusarczykr.terminal.simulation.routing.RoutingStrategyType;
+import com.slusarczykr.terminal.simulation.snapshot.SimulationSnapshot;
+import com.slusarczykr.terminal.simulation.statistics.LaneStatistics;
+import com.slusarczykr.terminal.simulation.statistics.StatisticsAccumulator;
+import com.slusarczykr.terminal.simulation.trace.EventTrace;
+import com.slusarczykr.terminal.simulation.trace.TraceEventType;
 import deskit.SimManager;
 import deskit.SimObject;
 import deskit.monitors.Change;
 import deskit.monitors.ChangesList;
 import deskit.monitors.MonitoredVar;
-import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.Logger;
 
-import java.util.Collection;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInput;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutput;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Random;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Queue;
 import java.util.Set;
-import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.Collectors;
 
-import static com.slusarczykr.terminal.simulation.action.queue.ActionQueueState.NOT_OCCUPIED;
-
 public abstract class SimulationCoordinator<T> extends SimObject {
 
-    private static final Logger log = LogManager.getLogger(SimulationCoordinator.class);
-
     protected final SimManager simulationManager;
+    protected final SimulationEngine simulationEngine;
     protected final Set<Action<T>> startedActions;
-    protected final Set<RandomEventAction<T>> startedRandomEventActions;
+    protected final Map<ActionKey, RandomEventActionPool<T>> randomEventActionPools;
+    protected final Queue<RandomEventAction<T>> executedRandomEventActions;
     protected final Map<ActionKey, List<Action<T>>> actions;
     protected final MonitoredVar randomEventActionTime;
-    private final Random random;
-    private final boolean actionByQueueTypeEnabled;
-
-    protected SimulationCoordinator(double simulationDuration) {
-        this.simulationManager = initSimManager(simulationDuration);
+    protected final StatisticsAccumulator randomEventActionStatistics;
+    protected final Map<ActionKey, LongAdder> actionInvocations;
+    protected final Map<ActionKey, LongAdder> rejections;
+    protected final Map<ActionKey, LongAdder> overCapacityInserts;
+    protected final long seed;
+    private final RandomStream randomStream;
+    private final RandomStream routingRandomStream;
+    private final Map<ActionKey, RoutingStrategy<T>> routingStrategies;
+    private final AtomicInteger randomEventActionSequence;
+    private final AdmissionControl<T> admissionControl;
+    private EventTrace eventTrace;
+    private boolean started;
+
+    protected SimulationCoordinator(double simulationDuration, EngineType engineType, long seed) {
+        this.simulationManager = initSimManager(simulationDuration, engineType);
+        this.simulationEngine = initSimulationEngine(engineType);
         this.startedActions = ConcurrentHashMap.newKeySet();
-        this.startedRandomEventActions = ConcurrentHashMap.newKeySet();
+        this.randomEventActionPools = initRandomEventActionPools();
+        this.executedRandomEventActions = new ConcurrentLinkedQueue<>();
         this.actions = new ConcurrentHashMap<>();
         this.randomEventActionTime = new MonitoredVar(this);
-        this.random = new Random();
-        this.actionByQueueTypeEnabled = false;
+        this.randomEventActionStatistics = new StatisticsAccumulator();
+        this.actionInvocations = initActionCounters();
+        this.rejections = initActionCounters();
+        this.overCapacityInserts = initActionCounters();
+        this.seed = seed;
+        this.randomStream = new RandomStream(seed);
+        this.routingRandomStream = createRandomStream();
+        this.routingStrategies = new ConcurrentHashMap<>();
+        this.randomEventActionSequence = new AtomicInteger();
+        this.admissionControl = new AdmissionControl<>();
+        this.eventTrace = EventTrace.DISABLED;
+    }
+
+    private Map<ActionKey, LongAdder> initActionCounters() {
+        Map<ActionKey, LongAdder> actionKeyToCounter = new EnumMap<>(ActionKey.class);
+        Arrays.stream(ActionKey.values()).forEach(it -> actionKeyToCounter.put(it, new LongAdder()));
+
+        return actionKeyToCounter;
     }
 
-    private SimManager initSimManager(double simulationDuration) {
-        SimManager simManager = SimManager.getSimManager();
+    private Map<ActionKey, RandomEventActionPool<T>> initRandomEventActionPools() {
+        Map<ActionKey, RandomEventActionPool<T>> actionKeyToPool = new EnumMap<>(ActionKey.class);
+        ActionKey.getRandomEventActionKeys().forEach(it -> actionKeyToPool.put(it, new RandomEventActionPool<>(this, it)));
+
+        return actionKeyToPool;
+    }
+
+    private SimManager initSimManager(double simulationDuration, EngineType engineType) {
+        SimManager simManager = createSimManager(engineType);
         simManager.setSimTime(0.0);
         simManager.setStopTime(simulationDuration);
 
         return simManager;
     }
 
+    private SimManager createSimManager(EngineType engineType) {
+        if (engineType == EngineType.DESKIT) {
+            return SimManager.getSimManager();
+        }
+        SimManager simManager = new IsolatedSimManager();
+        SimManager.getSimManager().removeFromPendingList(this);
+        initSimObject(simManager);
+
+        return simManager;
+    }
+
+    private SimulationEngine initSimulationEngine(EngineType engineType) {
+        switch (engineType) {
+            case EVENT_CALENDAR:
+                return new EventCalendarSimulationEngine(simulationManager);
+            case VIRTUAL_THREAD:
+                return new VirtualThreadSimulationEngine(simulationManager);
+            default:
+                return new DESKitSimulationEngine(this, simulationManager);
+        }
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public RandomStream createRandomStream() {
+        return randomStream.split();
+    }
+
+    public SimulationEngine getEngine() {
+        return simulationEngine;
+    }
+
     public abstract void startSimulation();
 
+    protected abstract void callInitialActions();
+
+    public void startIfRequired() {
+        if (!started) {
+            started = true;
+            callInitialActions();
+        }
+    }
+
+    public void runUntil(double simTime) {
+        startIfRequired();
+        simulationEngine.runUntil(simTime);
+    }
+
     public MonitoredVar getRandomEventActionTime() {
         return randomEventActionTime;
     }
 
-    public int getRandomEventActionOccurrences() {
-        return randomEventActionTime.getChanges().size();
+    public StatisticsAccumulator getRandomEventActionStatistics() {
+        return randomEventActionStatistics;
+    }
+
+    public long getRandomEventActionOccurrences() {
+        return getActionInvocations(ActionKey.RANDOM);
+    }
+
+    public int nextRandomEventActionIndex() {
+        return randomEventActionSequence.getAndIncrement();
     }
 
     public void setRandomEventActionTime(double delay) {
-        this.randomEventActionTime.setValue(delay);
+        this.randomEventActionStatistics.add(delay);
+        registerActionInvocation(ActionKey.RANDOM);
+
+        if (isMonitoredHistoryEnabled()) {
+            this.randomEventActionTime.setValue(delay);
+        }
     }
 
     public boolean isSimulationRunning() {
-        return simManager.getSimTime() <= simManager.getStopTime()
-                && simManager.getFirstSimObjectFromPendingList() != null;
+        return simulationEngine.isSimulationRunning();
     }
 
     public Set<Action<T>> getStartedActions() {
         return startedActions;
     }
 
-    public Set<RandomEventAction<T>> getStartedRandomEventActions() {
-        return startedRandomEventActions;
-    }
-
     public void addStartedActions(Action<T> action) {
-        if (action instanceof RandomEventAction) {
-            this.startedRandomEventActions.add((RandomEventAction<T>) action);
+        if (simulationEngine.getType() == EngineType.DESKIT) {
+            this.startedActions.add(action);
         }
-        this.startedActions.add(action);
     }
 
-    public void removeExecutedRandomEventActions() {
-        List<RandomEventAction<T>> executedRandomEventActions = findExecutedRandomEventActions();
-        executedRandomEventActions.forEach(Action::terminateAction);
-        removeRandomEventActions(executedRandomEventActions);
+    public RandomEventAction<T> getRandomEventAction(ActionKey randomActionKey, ActionKey nextActionKey, T element) {
+        terminateExecutedRandomEventActions();
+        return randomEventActionPools.get(randomActionKey).acquire(nextActionKey, element);
     }
 
-    public void removeRandomEventActions(Collection<RandomEventAction<T>> actions) {
-        this.startedRandomEventActions.removeAll(actions);
+    public int getActiveRandomEventActions() {
+        return randomEventActionPools.values().stream()
+                .mapToInt(RandomEventActionPool::getActiveActions)
+                .sum();
     }
 
-    private List<RandomEventAction<T>> findExecutedRandomEventActions() {
-        return getStartedRandomEventActions().stream()
-                .filter(RandomEventAction::isExecuted)
-                .collect(Collectors.toList());
+    public RandomEventActionPool<T> getRandomEventActionPool(ActionKey randomActionKey) {
+        return randomEventActionPools.get(randomActionKey);
+    }
+
+    public void addExecutedRandomEventAction(RandomEventAction<T> action) {
+        this.executedRandomEventActions.add(action);
+    }
+
+    private void terminateExecutedRandomEventActions() {
+        RandomEventAction<T> action;
+
+        while ((action = executedRandomEventActions.poll()) != null) {
+            action.terminateAction();
+        }
     }
 
     public void stop() {
-        getAliveThreads().forEach(it -> {
-            try {
-                it.resumeActivity();
-                it.terminate();
-            } catch (Exception e) {
-                log.error("Exception thrown during activity termination", e);
-            }
-        });
+        simulationEngine.stop();
+        eventTrace.close();
     }
 
-    private List<SimActivity> getAliveThreads() {
-        return startedActions.stream()
-                .filter(SimActivity.class::isInstance)
-                .map(SimActivity.class::cast)
-                .filter(Thread::isAlive)
-                .collect(Collectors.toList());
+    public EventTrace getEventTrace() {
+        return eventTrace;
+    }
+
+    protected void setEventTrace(EventTrace eventTrace) {
+        this.eventTrace = eventTrace;
+    }
+
+    public boolean isTraceEnabled() {
+        return eventTrace.isEnabled();
+    }
+
+    public void trace(ActionKey actionKey, int index, T element, TraceEventType eventType) {
+        onEvent(actionKey, element, eventType);
+
+        if (eventTrace.isEnabled()) {
+            eventTrace.record(getSimTime(), actionKey, index, getElementId(element), eventType);
+        }
     }
 
     public List<Action<T>> getActionInstances(ActionKey actionKey) {
@@ -128,55 +270,82 @@ public abstract class SimulationCoordinator<T> extends SimObject {
     }
 
     public Action<T> getAction(ActionKey actionKey) {
-        return getAction(actionKey, NOT_OCCUPIED);
+        return getRoutingStrategy(actionKey).route();
     }
 
-    public Action<T> getAction(ActionKey actionKey, ActionQueueState state) {
-        List<Action<T>> actionInstances = actions.get(actionKey);
+    public Optional<Action<T>> getAvailableAction(ActionKey actionKey) {
+        return getActionInstances(actionKey).stream()
+                .filter(it -> !it.getQueue().isFull())
+                .min(Comparator.comparingInt(it -> it.getQueue().getLoad()));
+    }
 
-        if (actionByQueueTypeEnabled) {
-            return getActionByQueueType(actionInstances, state);
-        }
-        return getRandomActionInstance(actionInstances);
+    protected void registerBlockingStages() {
+        actions.forEach((actionKey, actionInstances) -> {
+            if (getOverflowPolicy(actionKey) == OverflowPolicy.BLOCK && getQueueCapacity(actionKey) > 0) {
+                List<ActionQueue<T>> actionQueues = actionInstances.stream()
+                        .map(Action::getQueue)
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toList());
+
+                if (!actionQueues.isEmpty()) {
+                    admissionControl.registerBlockingStage(actionQueues);
+                }
+            }
+        });
     }
 
-    private Action<T> getRandomActionInstance(List<Action<T>> actionInstances) {
-        int actionIndex = random.nextInt(actionInstances.size());
-        return actionInstances.get(actionIndex);
+    public boolean isAdmissionBlocked() {
+        return admissionControl.isAdmissionBlocked();
     }
 
-    private Action<T> getActionByQueueType(List<Action<T>> actionInstances, ActionQueueState state) {
-        if (hasQueue(actionInstances)) {
-            if (state == NOT_OCCUPIED) {
-                return getActionByNotOccupiedQueue(actionInstances);
-            }
-            return getActionByQueueWithLowestLoad(actionInstances);
-        }
-        return getRandomActionInstance(actionInstances);
+    public RoutingStrategy<T> getRoutingStrategy(ActionKey actionKey) {
+        return routingStrategies.computeIfAbsent(actionKey, this::createRoutingStrategy);
     }
 
-    private boolean hasQueue(List<Action<T>> actionInstances) {
-        return actionInstances.stream().anyMatch(it -> it.getQueue() != null);
+    private RoutingStrategy<T> createRoutingStrategy(ActionKey actionKey) {
+        List<Action<T>> actionInstances = getActionInstances(actionKey);
+
+        switch (getRoutingStrategyType(actionKey)) {
+            case ROUND_ROBIN:
+                return new RoundRobinRoutingStrategy<>(actionInstances);
+            case JOIN_SHORTEST_QUEUE:
+                return new JoinShortestQueueRoutingStrategy<>(actionInstances);
+            case POWER_OF_TWO_CHOICES:
+                return new PowerOfTwoChoicesRoutingStrategy<>(actionInstances, routingRandomStream);
+            case LEAST_EXPECTED_WORK:
+                return new LeastExpectedWorkRoutingStrategy<>(actionInstances);
+            default:
+                return new RandomRoutingStrategy<>(actionInstances, routingRandomStream);
+        }
     }
 
-    private Action<T> getActionByNotOccupiedQueue(List<Action<T>> actionInstances) {
+    public Map<Integer, StatisticsAccumulator> getActionInstancesStatistics(ActionKey actionKey) {
+        List<Action<T>> actionInstances = getActionInstances(actionKey);
         return actionInstances.stream()
-                .filter(it -> !it.getQueue().isOccupied())
-                .findFirst()
-                .orElseGet(() -> getActionByQueueWithLowestLoad(actionInstances));
+                .collect(Collectors.toMap(Action::getIndex, Action::getActionStatistics));
     }
 
-    private Action<T> getActionByQueueWithLowestLoad(List<Action<T>> actionInstances) {
-        Map<Integer, List<Action<T>>> queuesByLoad = actionInstances.stream()
-                .collect(Collectors.groupingBy(it -> it.getQueue().getLength(), TreeMap::new, Collectors.toList()));
+    public List<LaneStatistics> getLaneStatistics(ActionKey actionKey) {
+        double simTime = getSimTime();
+        return getActionInstances(actionKey).stream()
+                .filter(it -> it.getQueue() != null)
+                .map(it -> new LaneStatistics(actionKey, it.getIndex(), it.getQueue().getLengthStatistics(),
+                        it.getQueue().getBusyStatistics(), it.getActionStatistics().getCount(), simTime))
+                .collect(Collectors.toList());
+    }
 
-        return queuesByLoad.entrySet().iterator().next().getValue().get(0);
+    public double getAverageBusyFraction(ActionKey actionKey) {
+        return getLaneStatistics(actionKey).stream()
+                .mapToDouble(LaneStatistics::getBusyFraction)
+                .average()
+                .orElse(0.0);
     }
 
-    public Map<Integer, MonitoredVar> getActionTimes(ActionKey actionKey) {
+    public StatisticsAccumulator getActionStatistics(ActionKey actionKey) {
         List<Action<T>> actionInstances = getActionInstances(actionKey);
-        return actionInstances.stream()
-                .collect(Collectors.toMap(Action::getIndex, Action::getActionTime));
+        return StatisticsAccumulator.merge(actionInstances.stream()
+                .map(Action::getActionStatistics)
+                .collect(Collectors.toList()));
     }
 
     public MonitoredVar getActionTime(ActionKey actionKey) {
@@ -196,10 +365,224 @@ public abstract class SimulationCoordinator<T> extends SimObject {
         }
     }
 
-    public int getActionInvocations(ActionKey actionKey) {
-        MonitoredVar actionTime = getActionTime(actionKey);
-        return actionTime.getChanges().size();
+    public void registerActionInvocation(ActionKey actionKey) {
+        actionInvocations.get(actionKey).increment();
+    }
+
+    public long getActionInvocations(ActionKey actionKey) {
+        return actionInvocations.get(actionKey).sum();
+    }
+
+    public void registerRejection(ActionKey actionKey, T element) {
+        rejections.get(actionKey).increment();
+        trace(actionKey, -1, element, TraceEventType.REJECTED);
+    }
+
+    public long getRejections(ActionKey actionKey) {
+        return rejections.get(actionKey).sum();
+    }
+
+    public long getRejections() {
+        return rejections.values().stream()
+                .mapToLong(LongAdder::sum)
+                .sum();
+    }
+
+    public void registerOverCapacityInsert(ActionKey actionKey) {
+        overCapacityInserts.get(actionKey).increment();
+    }
+
+    public long getOverCapacityInserts(ActionKey actionKey) {
+        return overCapacityInserts.get(actionKey).sum();
+    }
+
+    public long getOverCapacityInserts() {
+        return overCapacityInserts.values().stream()
+                .mapToLong(LongAdder::sum)
+                .sum();
+    }
+
+    protected void onEvent(ActionKey actionKey, T element, TraceEventType eventType) {
+    }
+
+    public void writeSnapshot(Path snapshotFile) throws IOException {
+        try (OutputStream outputStream = Files.newOutputStream(snapshotFile)) {
+            writeSnapshot(outputStream);
+        }
+    }
+
+    public void writeSnapshot(OutputStream outputStream) throws IOException {
+        checkSnapshotSupport();
+        ObjectOutputStream out = SimulationSnapshot.createOutput(outputStream);
+        out.writeLong(seed);
+        writeSimulationState(out);
+        out.flush();
+    }
+
+    public void readSnapshot(InputStream inputStream) throws IOException {
+        ObjectInputStream in = SimulationSnapshot.createInput(inputStream);
+        SimulationSnapshot.checkValue("Seed", seed, in.readLong());
+        readSimulationState(in);
     }
 
+    protected void writeSimulationState(ObjectOutput out) throws IOException {
+        List<ActionKey> actionKeys = getSnapshotActionKeys();
+        out.writeInt(actionKeys.size());
+
+        for (ActionKey actionKey : actionKeys) {
+            out.writeByte(actionKey.ordinal());
+            out.writeInt(getActionInstances(actionKey).size());
+        }
+        out.writeDouble(getSimTime());
+        writeCounters(out, actionInvocations);
+        writeCounters(out, rejections);
+        writeCounters(out, overCapacityInserts);
+        randomEventActionStatistics.writeSnapshot(out);
+        writeRoutingStrategies(out);
+
+        for (ActionKey actionKey : actionKeys) {
+            for (Action<T> action : getActionInstances(actionKey)) {
+                action.writeSnapshot(out);
+            }
+        }
+        for (RandomEventActionPool<T> pool : randomEventActionPools.values()) {
+            pool.writeSnapshot(out);
+        }
+        writeModelState(out);
+        simulationEngine.writeSnapshot(out);
+        randomStream.writeSnapshot(out);
+        routingRandomStream.writeSnapshot(out);
+        out.writeInt(randomEventActionSequence.get());
+    }
+
+    private void writeCounters(ObjectOutput out, Map<ActionKey, LongAdder> counters) throws IOException {
+        for (ActionKey actionKey : ActionKey.values()) {
+            out.writeLong(counters.get(actionKey).sum());
+        }
+    }
+
+    private void writeRoutingStrategies(ObjectOutput out) throws IOException {
+        List<Map.Entry<ActionKey, RoutingStrategy<T>>> strategies = new ArrayList<>(routingStrategies.entrySet());
+        out.writeInt(strategies.size());
+
+        for (Map.Entry<ActionKey, RoutingStrategy<T>> strategy : strategies) {
+            out.writeByte(strategy.getKey().ordinal());
+            out.writeByte(strategy.getValue().getType().ordinal());
+            out.writeInt(strategy.getValue().getCursor());
+        }
+    }
+
+    protected void readSimulationState(ObjectInput in) throws IOException {
+        checkSnapshotSupport();
+        List<ActionKey> actionKeys = getSnapshotActionKeys();
+        SimulationSnapshot.checkValue("Action types", actionKeys.size(), in.readInt());
+
+        for (ActionKey actionKey : actionKeys) {
+            SimulationSnapshot.checkValue("Action type", actionKey.ordinal(), in.readByte());
+            SimulationSnapshot.checkValue(actionKey + " instances", getActionInstances(actionKey).size(), in.readInt());
+        }
+        simulationManager.setSimTime(in.readDouble());
+        readCounters(in, actionInvocations);
+        readCounters(in, rejections);
+        readCounters(in, overCapacityInserts);
+        randomEventActionStatistics.readSnapshot(in);
+        readRoutingStrategies(in);
+
+        for (ActionKey actionKey : actionKeys) {
+            for (Action<T> action : getActionInstances(actionKey)) {
+                action.readSnapshot(in);
+            }
+        }
+        for (RandomEventActionPool<T> pool : randomEventActionPools.values()) {
+            pool.readSnapshot(in);
+        }
+        executedRandomEventActions.clear();
+        readModelState(in);
+        simulationEngine.readSnapshot(in, this::resolveSnapshotAction, this::resolveSnapshotEvent);
+        randomStream.readSnapshot(in);
+        routingRandomStream.readSnapshot(in);
+        randomEventActionSequence.set(in.readInt());
+        started = true;
+    }
+
+    private void readCounters(ObjectInput in, Map<ActionKey, LongAdder> counters) throws IOException {
+        for (ActionKey actionKey : ActionKey.values()) {
+            LongAdder counter = counters.get(actionKey);
+            counter.reset();
+            counter.add(in.readLong());
+        }
+    }
+
+    private void readRoutingStrategies(ObjectInput in) throws IOException {
+        int strategies = in.readInt();
+
+        for (int i = 0; i < strategies; i++) {
+            ActionKey actionKey = ActionKey.values()[in.readByte()];
+            RoutingStrategyType routingStrategyType = RoutingStrategyType.values()[in.readByte()];
+            int cursor = in.readInt();
+
+            if (getRoutingStrategyType(actionKey) == routingStrategyType) {
+                getRoutingStrategy(actionKey).setCursor(cursor);
+            }
+        }
+    }
+
+    private List<ActionKey> getSnapshotActionKeys() {
+        return actions.keySet().stream()
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
+    private AbstractAction<?> resolveSnapshotAction(ActionKey actionKey, int index) {
+        return (AbstractAction<?>) findAction(actionKey, index)
+                .orElseThrow(() -> new IllegalArgumentException(String.format("Invalid snapshot action: '%s' [%d]", actionKey, index)));
+    }
+
+    private SimulationEvent resolveSnapshotEvent(ActionKey actionKey, int index) {
+        return findEvent(actionKey, index)
+                .orElseThrow(() -> new IllegalArgumentException(String.format("Invalid snapshot event: '%s' [%d]", actionKey, index)));
+    }
+
+    protected Optional<? extends SimulationEvent> findEvent(ActionKey actionKey, int index) {
+        return Optional.empty();
+    }
+
+    protected Optional<? extends Action<T>> findAction(ActionKey actionKey, int index) {
+        if (ActionKey.isRandomEvent(actionKey)) {
+            return randomEventActionPools.get(actionKey).getActiveAction(index);
+        }
+        return Optional.ofNullable(getActionInstances(actionKey)).stream()
+                .flatMap(List::stream)
+                .filter(it -> it.getIndex() == index)
+                .findFirst();
+    }
+
+    private void checkSnapshotSupport() {
+        if (simulationEngine.getType() != EngineType.EVENT_CALENDAR) {
+            throw new UnsupportedOperationException(String.format("Engine: '%s' does not support simulation snapshots",
+                    simulationEngine.getType()));
+        }
+    }
+
+    protected abstract void writeModelState(ObjectOutput out) throws IOException;
+
+    protected abstract void readModelState(ObjectInput in) throws IOException;
+
+    public abstract void writeElement(ObjectOutput out, T element) throws IOException;
+
+    public abstract T readElement(ObjectInput in) throws IOException;
+
+    protected abstract long getElementId(T element);
+
     public abstract double getRandomEventProbability();
+
+    public abstract boolean isMonitoredHistoryEnabled();
+
+    public abstract RoutingStrategyType getRoutingStrategyType(ActionKey actionKey);
+
+    public abstract int getBatchSize(ActionKey actionKey);
+
+    public abstract int getQueueCapacity(ActionKey actionKey);
+
+    public abstract OverflowPolicy getOverflowPolicy(ActionKey actionKey);
 }
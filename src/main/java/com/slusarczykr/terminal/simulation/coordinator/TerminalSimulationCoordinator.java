@@ -3,44 +3,147 @@ package com.slusarczykr.terminal.simulation.coordinator;
 import com.slusarczykr.terminal.simulation.action.Action;
 import com.slusarczykr.terminal.simulation.action.ActionKey;
 import com.slusarczykr.terminal.simulation.action.CheckInPassengerAction;
+import com.slusarczykr.terminal.simulation.action.FlightTimetableAction;
 import com.slusarczykr.terminal.simulation.action.GeneratePassengerAction;
 import com.slusarczykr.terminal.simulation.action.SecurityCheckPassengerAction;
+import com.slusarczykr.terminal.simulation.action.queue.OverflowPolicy;
+import com.slusarczykr.terminal.simulation.airport.TransferListener;
+import com.slusarczykr.terminal.simulation.arrival.ArrivalMode;
 import com.slusarczykr.terminal.simulation.config.SimulationConfiguration;
+import com.slusarczykr.terminal.simulation.engine.SimulationEvent;
+import com.slusarczykr.terminal.simulation.metrics.MetricsExporter;
+import com.slusarczykr.terminal.simulation.metrics.SimulationMetrics;
 import com.slusarczykr.terminal.simulation.model.Flight;
 import com.slusarczykr.terminal.simulation.model.Passenger;
+import com.slusarczykr.terminal.simulation.random.RandomStream;
+import com.slusarczykr.terminal.simulation.routing.RoutingStrategyType;
+import com.slusarczykr.terminal.simulation.snapshot.SimulationSnapshot;
+import com.slusarczykr.terminal.simulation.statistics.StatisticsAccumulator;
+import com.slusarczykr.terminal.simulation.time.SimulationTime;
+import com.slusarczykr.terminal.simulation.timetable.Timetable;
+import com.slusarczykr.terminal.simulation.timetable.TimetableEntry;
+import com.slusarczykr.terminal.simulation.trace.EventTrace;
+import com.slusarczykr.terminal.simulation.trace.MappedEventTrace;
+import com.slusarczykr.terminal.simulation.trace.TraceEventType;
 import deskit.monitors.MonitoredVar;
+import deskit.random.SimGenerator;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInput;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutput;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.IntFunction;
 import java.util.stream.Collectors;
 
 import static com.slusarczykr.terminal.simulation.action.ActionKey.CHECK_IN;
+import static com.slusarczykr.terminal.simulation.action.ActionKey.DEPARTURE_FLIGHT;
+import static com.slusarczykr.terminal.simulation.action.ActionKey.FLIGHT_TIMETABLE;
 import static com.slusarczykr.terminal.simulation.action.ActionKey.GENERATE_PASSENGER;
+import static com.slusarczykr.terminal.simulation.action.ActionKey.RANDOM;
 import static com.slusarczykr.terminal.simulation.action.ActionKey.SECURITY_CHECK;
 import static java.util.stream.IntStream.rangeClosed;
 
 public class TerminalSimulationCoordinator extends SimulationCoordinator<Passenger> {
 
+    public static final List<ActionKey> QUEUE_STAGES = List.of(CHECK_IN, SECURITY_CHECK);
+
     private static final Logger log = LogManager.getLogger(TerminalSimulationCoordinator.class);
 
+    private static final int FLIGHT_PREPARATION_TIME_DEGREES_OF_FREEDOM = 20000;
+    private static final int BOARDING_TIME_DEGREES_OF_FREEDOM = 10000;
+
     private final SimulationConfiguration simulationConfig;
     private final Map<Integer, Flight> flights;
-    private final Set<Flight> departedFlights;
+    private final List<Flight> openFlights;
+    private final Map<Integer, Flight> departedFlights;
+    private final LongAdder departedPassengers;
+    private final LongAdder missedFlightPassengers;
+    private final StatisticsAccumulator departureFlightActionStatistics;
+    private final MonitoredVar departureFlightActionTime;
+    private final Map<ActionKey, StatisticsAccumulator> waitTimeStatistics;
+    private final Map<ActionKey, StatisticsAccumulator> serviceTimeStatistics;
+    private final StatisticsAccumulator endToEndTimeStatistics;
+    private final AtomicInteger flightSequence;
+    private final AtomicLong passengerSequence;
+    private final AtomicInteger transfersInTransit;
+    private SimGenerator flightGenerator;
+    private TransferListener transferListener;
 
     public TerminalSimulationCoordinator(SimulationConfiguration simulationConfig) {
-        super(simulationConfig.getSimulationDuration());
+        this(simulationConfig, simulationConfig.getSeed());
+    }
+
+    public TerminalSimulationCoordinator(SimulationConfiguration simulationConfig, long seed) {
+        super(simulationConfig.getSimulationDuration(), simulationConfig.getEngineType(), seed);
         this.simulationConfig = simulationConfig;
+        simulationConfig.getTraceFile().ifPresent(it -> setEventTrace(createEventTrace(it, seed)));
+        this.departureFlightActionStatistics = new StatisticsAccumulator();
+        this.departureFlightActionTime = new MonitoredVar(this);
+        this.waitTimeStatistics = initStageStatistics();
+        this.serviceTimeStatistics = initStageStatistics();
+        this.endToEndTimeStatistics = new StatisticsAccumulator();
+        this.passengerSequence = new AtomicLong();
+        this.flightSequence = new AtomicInteger();
+        this.transfersInTransit = new AtomicInteger();
         this.actions.putAll(createSimulationActions(simulationConfig));
-        this.flights = generateFlights(simulationConfig.getMaxFlightsNumber());
-        this.departedFlights = ConcurrentHashMap.newKeySet();
+        registerBlockingStages();
+        this.flightGenerator = new SimGenerator(createRandomStream().nextLong());
+        this.flights = new ConcurrentHashMap<>();
+        this.openFlights = new ArrayList<>();
+
+        if (!isTimetableEnabled()) {
+            generateFlights(simulationConfig.getMaxFlightsNumber());
+        }
+        this.departedFlights = new ConcurrentHashMap<>();
+        this.departedPassengers = new LongAdder();
+        this.missedFlightPassengers = new LongAdder();
+    }
+
+    public static TerminalSimulationCoordinator restore(SimulationConfiguration simulationConfig, Path snapshotFile) throws IOException {
+        try (InputStream inputStream = Files.newInputStream(snapshotFile)) {
+            return restore(simulationConfig, inputStream);
+        }
+    }
+
+    public static TerminalSimulationCoordinator restore(SimulationConfiguration simulationConfig, InputStream inputStream) throws IOException {
+        ObjectInputStream in = SimulationSnapshot.createInput(inputStream);
+        TerminalSimulationCoordinator simulationCoordinator = new TerminalSimulationCoordinator(simulationConfig, in.readLong());
+        simulationCoordinator.readSimulationState(in);
+
+        return simulationCoordinator;
+    }
+
+    private Map<ActionKey, StatisticsAccumulator> initStageStatistics() {
+        Map<ActionKey, StatisticsAccumulator> actionKeyToStatistics = new EnumMap<>(ActionKey.class);
+        Arrays.stream(ActionKey.values()).forEach(it -> actionKeyToStatistics.put(it, new StatisticsAccumulator()));
+
+        return actionKeyToStatistics;
+    }
+
+    private EventTrace createEventTrace(Path traceFile, long seed) {
+        String fileName = traceFile.getFileName().toString();
+        int extensionIndex = fileName.lastIndexOf('.');
+        String seedFileName = extensionIndex > 0
+                ? fileName.substring(0, extensionIndex) + "-" + seed + fileName.substring(extensionIndex)
+                : fileName + "-" + seed;
+
+        return new MappedEventTrace(traceFile.resolveSibling(seedFileName), simulationConfig.getTraceCapacity());
     }
 
     private Map<ActionKey, List<Action<Passenger>>> createSimulationActions(SimulationConfiguration simulationConfig) {
@@ -63,6 +166,12 @@ public class TerminalSimulationCoordinator extends SimulationCoordinator<Passeng
                         simulationConfig.getActionInstances(SECURITY_CHECK),
                         idx -> new SecurityCheckPassengerAction(this, idx)
                 ));
+        simulationConfig.getTimetableFile().ifPresent(it -> actionKeyToActionInstances.put(
+                FLIGHT_TIMETABLE,
+                createActionInstances(
+                        1,
+                        idx -> new FlightTimetableAction(this, idx, Timetable.load(it), simulationConfig.getTimetableOpenWindow())
+                )));
 
         return actionKeyToActionInstances;
     }
@@ -76,18 +185,120 @@ public class TerminalSimulationCoordinator extends SimulationCoordinator<Passeng
         return Collections.emptyList();
     }
 
-    private Map<Integer, Flight> generateFlights(int maxFlightsNumber) {
-        Map<Integer, Flight> generatedFlights = new ConcurrentHashMap<>();
+    private void generateFlights(int maxFlightsNumber) {
         rangeClosed(1, maxFlightsNumber).forEach(idx -> {
             Flight flight = generateFlight();
-            generatedFlights.put(flight.getId(), flight);
+            scheduleDepartureIfRequired(flight);
+            addFlight(flight);
         });
+    }
+
+    private boolean scheduleDepartureIfRequired(Flight flight) {
+        boolean departureScheduled = flight.getDepartureTime() < simManager.getStopTime();
+
+        if (departureScheduled) {
+            scheduleDeparture(flight);
+        }
+        return departureScheduled;
+    }
+
+    private void scheduleDeparture(Flight flight) {
+        log.info("Flight: '{}' will be ready for passengers boarding after {}ms and will depart after {}ms", flight.getId(),
+                SimulationTime.round(flight.getBoardingTime() - getSimTime()), SimulationTime.round(flight.getDepartureTime() - getSimTime()));
+        simulationEngine.schedule(flight.getDepartureTime() - getSimTime(), flight);
+    }
+
+    public void departFlight(Flight flight) {
+        log.info("Flight: '{}' departed from the airport with {} passengers on the board", flight.getId(), flight.getPassengers().size());
+        setDepartureFlightActionTime(flight.getDepartureTime() - flight.getOpenTime());
+        removeFlightIfPresent(flight.getId());
+    }
+
+    private void addFlight(Flight flight) {
+        flights.put(flight.getId(), flight);
+
+        synchronized (openFlights) {
+            openFlights.add(flight);
+        }
+        if (getArrivalMode() == ArrivalMode.SCHEDULED) {
+            scheduleArrivals(flight);
+        } else {
+            getActionInstances(GENERATE_PASSENGER).forEach(it -> ((GeneratePassengerAction) it).resumeArrivals());
+        }
+    }
+
+    private void scheduleArrivals(Flight flight) {
+        List<Action<Passenger>> generators = getActionInstances(GENERATE_PASSENGER);
+
+        if (!generators.isEmpty()) {
+            GeneratePassengerAction generator = (GeneratePassengerAction) generators.get(flight.getId() % generators.size());
+            int flightCapacity = flight.getTimetableEntry()
+                    .map(TimetableEntry::getCapacity)
+                    .orElse(simulationConfig.getFlightCapacity());
+            generator.scheduleArrivals(flight, flightCapacity, simulationConfig.getLoadFactor());
+        }
+    }
+
+    public void openFlight(TimetableEntry timetableEntry, double boardingTime) {
+        Flight flight = new Flight(this, timetableEntry, boardingTime);
+
+        if (log.isDebugEnabled()) {
+            log.debug("Opened timetable flight: '{}' with id: '{}'", timetableEntry.getFlightNumber(), flight.getId());
+        }
+        scheduleDeparture(flight);
+        addFlight(flight);
+    }
+
+    public void setTransferListener(TransferListener transferListener) {
+        this.transferListener = transferListener;
+    }
+
+    public boolean transferPassenger(Passenger passenger) {
+        return transferListener != null && transferListener.transfer(passenger);
+    }
+
+    public void acceptTransfer(double arrivalTime, double generationTime, RandomStream admissionRandom) {
+        GeneratePassengerAction generator = (GeneratePassengerAction) getActionInstances(GENERATE_PASSENGER).get(0);
+        simulationEngine.schedule(arrivalTime - getSimTime(), new TransferArrival(this, generator, generationTime, admissionRandom));
+        transfersInTransit.incrementAndGet();
+    }
+
+    private void admitTransfer(GeneratePassengerAction generator, double generationTime, RandomStream admissionRandom) {
+        transfersInTransit.decrementAndGet();
+        generator.admitTransfer(generationTime, admissionRandom);
+    }
+
+    public void registerMissedTransfer() {
+        missedFlightPassengers.increment();
+    }
+
+    public boolean isTimetableEnabled() {
+        return actions.containsKey(FLIGHT_TIMETABLE);
+    }
+
+    private void removeOpenFlight(Flight flight) {
+        synchronized (openFlights) {
+            int index = openFlights.indexOf(flight);
+            int lastIndex = openFlights.size() - 1;
+
+            if (index >= 0) {
+                openFlights.set(index, openFlights.get(lastIndex));
+                openFlights.remove(lastIndex);
+            }
+        }
+    }
 
-        return generatedFlights;
+    public int nextFlightId() {
+        return flightSequence.getAndIncrement();
+    }
+
+    public long nextPassengerId() {
+        return passengerSequence.getAndIncrement();
     }
 
     private Flight generateFlight() {
-        Flight flight = new Flight(this);
+        Flight flight = new Flight(this, flightGenerator.chisquare(FLIGHT_PREPARATION_TIME_DEGREES_OF_FREEDOM),
+                flightGenerator.chisquare(BOARDING_TIME_DEGREES_OF_FREEDOM));
         log.debug("Generated flight with id: '{}'", flight.getId());
 
         return flight;
@@ -95,91 +306,366 @@ public class TerminalSimulationCoordinator extends SimulationCoordinator<Passeng
 
     @Override
     public void startSimulation() {
+        Optional<SimulationMetrics> simulationMetrics = registerMetrics();
+        try {
+            startIfRequired();
+            simulationEngine.startSimulation();
+            stop();
+        } finally {
+            simulationMetrics.ifPresent(MetricsExporter::unregister);
+        }
+    }
+
+    private Optional<SimulationMetrics> registerMetrics() {
+        if (!simulationConfig.isMetricsEnabled()) {
+            return Optional.empty();
+        }
+        SimulationMetrics simulationMetrics = new SimulationMetrics(this);
+        MetricsExporter.register(simulationMetrics, simulationConfig.getMetricsPort(), simulationConfig.isMetricsJmxEnabled());
+
+        return Optional.of(simulationMetrics);
+    }
+
+    @Override
+    protected void callInitialActions() {
+        if (isTimetableEnabled()) {
+            call(FLIGHT_TIMETABLE);
+        }
         call(GENERATE_PASSENGER);
-        simulationManager.startSimulation();
-        stop();
     }
 
     private void call(ActionKey actionKey) {
         getActionInstances(actionKey).forEach(Action::call);
     }
 
+    @Override
+    public MonitoredVar getActionTime(ActionKey actionKey) {
+        if (actionKey == RANDOM) {
+            return getRandomEventActionTime();
+        } else if (actionKey == DEPARTURE_FLIGHT) {
+            return getDepartureFlightActionTime();
+        }
+        return super.getActionTime(actionKey);
+    }
+
+    @Override
+    public StatisticsAccumulator getActionStatistics(ActionKey actionKey) {
+        if (actionKey == RANDOM) {
+            return getRandomEventActionStatistics();
+        } else if (actionKey == DEPARTURE_FLIGHT) {
+            return getDepartureFlightActionStatistics();
+        }
+        return super.getActionStatistics(actionKey);
+    }
+
+    public StatisticsAccumulator getDepartureFlightActionStatistics() {
+        return departureFlightActionStatistics;
+    }
+
     public MonitoredVar getDepartureFlightActionTime() {
-        List<Action<?>> actions = getDepartedFlightActions();
-        MonitoredVar actionTime = new MonitoredVar(this);
-        actions.stream()
-                .map(it -> it.getActionTime().getChanges())
-                .forEach(it -> addChanges(actionTime, it));
+        return departureFlightActionTime;
+    }
 
-        return actionTime;
+    public void setDepartureFlightActionTime(double delay) {
+        this.departureFlightActionStatistics.add(delay);
+        registerActionInvocation(DEPARTURE_FLIGHT);
+
+        if (isMonitoredHistoryEnabled()) {
+            this.departureFlightActionTime.setValue(delay);
+        }
     }
 
-    private List<Action<?>> getDepartedFlightActions() {
-        return departedFlights.stream()
-                .map(Flight::getAction)
-                .collect(Collectors.toList());
+    public int getOpenFlightsNumber() {
+        return flights.size();
     }
 
     public int getDepartedFlightsNumber() {
         return departedFlights.size();
     }
 
-    public int getDepartedPassengersNumber() {
-        return (int) departedFlights.stream()
-                .map(Flight::getPassengers)
-                .mapToLong(Set::size)
-                .sum();
+    public long getDepartedPassengersNumber() {
+        return departedPassengers.sum();
     }
 
-    public int getMissedFlightPassengersNumber() {
-        return (int) departedFlights.stream()
-                .map(Flight::getMissedPassengers)
-                .mapToLong(Set::size)
-                .sum();
+    public long getMissedFlightPassengersNumber() {
+        return missedFlightPassengers.sum();
+    }
+
+    public long getRejectedPassengersNumber() {
+        return getRejections();
+    }
+
+    @Override
+    public void registerRejection(ActionKey actionKey, Passenger passenger) {
+        if (log.isDebugEnabled()) {
+            log.debug("Passenger: '{}' rejected by full '{}' action queues", passenger.getId(), actionKey);
+        }
+        super.registerRejection(actionKey, passenger);
     }
 
     public boolean anyFlightAvailable() {
         return !flights.isEmpty();
     }
 
-    public List<Integer> getFlightsIds() {
-        return new ArrayList<>(flights.keySet());
+    public boolean hasOpenFlights() {
+        synchronized (openFlights) {
+            return !openFlights.isEmpty();
+        }
+    }
+
+    public int getRandomFlightId(RandomStream random) {
+        synchronized (openFlights) {
+            return openFlights.get(random.nextInt(openFlights.size())).getId();
+        }
     }
 
     public void addMissedPassenger(Passenger passenger) {
         Optional<Flight> maybeFlight = getFlight(passenger.getFlightId(), true);
-        maybeFlight.ifPresent(it -> it.addPassenger(passenger, true));
+        maybeFlight.ifPresent(it -> {
+            it.addPassenger(passenger, true);
+            missedFlightPassengers.increment();
+        });
     }
 
     public Optional<Flight> getFlight(int id, boolean departed) {
         if (!departed) {
             return Optional.ofNullable(flights.get(id));
         }
-        return departedFlights.stream()
-                .filter(it -> it.getId() == id)
-                .findFirst();
+        return Optional.ofNullable(departedFlights.get(id));
     }
 
     public void removeFlightIfPresent(int id) {
-        Optional.ofNullable(flights.get(id)).ifPresent(it -> {
-            flights.remove(it.getId());
-            departedFlights.add(it);
-            generateFlightIfSimulationIsRunning();
+        Optional.ofNullable(flights.remove(id)).ifPresent(it -> {
+            removeOpenFlight(it);
+            departedFlights.put(it.getId(), it);
+            departedPassengers.add(it.getPassengers().size());
+            releaseDepartedPassengers(it);
+
+            if (!isTimetableEnabled()) {
+                generateFlightIfSimulationIsRunning();
+            }
         });
     }
 
+    private void releaseDepartedPassengers(Flight flight) {
+        if (!isMonitoredHistoryEnabled()) {
+            flight.getPassengers().clear();
+        }
+    }
+
     private void generateFlightIfSimulationIsRunning() {
         if (isSimulationRunning()) {
             Flight flight = generateFlight();
 
-            if (flight.isExecuted()) {
-                flights.put(flight.getId(), flight);
+            if (scheduleDepartureIfRequired(flight)) {
+                addFlight(flight);
             }
         }
     }
 
+    @Override
+    protected void onEvent(ActionKey actionKey, Passenger passenger, TraceEventType eventType) {
+        double simTime = getSimTime();
+
+        switch (eventType) {
+            case QUEUED:
+                passenger.setQueuedTime(simTime);
+                break;
+            case SERVICE_STARTED:
+                addStageTime(waitTimeStatistics, actionKey, simTime - passenger.getQueuedTime());
+                passenger.setServiceStartTime(simTime);
+                break;
+            case SERVICE_FINISHED:
+                addStageTime(serviceTimeStatistics, actionKey, simTime - passenger.getServiceStartTime());
+                break;
+            case BOARDED:
+                endToEndTimeStatistics.add(simTime - passenger.getGenerationTime());
+                break;
+            default:
+                break;
+        }
+    }
+
+    private void addStageTime(Map<ActionKey, StatisticsAccumulator> stageStatistics, ActionKey actionKey, double time) {
+        stageStatistics.get(actionKey).add(time);
+    }
+
+    public StatisticsAccumulator getWaitTimeStatistics(ActionKey actionKey) {
+        return waitTimeStatistics.get(actionKey);
+    }
+
+    public StatisticsAccumulator getServiceTimeStatistics(ActionKey actionKey) {
+        return serviceTimeStatistics.get(actionKey);
+    }
+
+    public StatisticsAccumulator getEndToEndTimeStatistics() {
+        return endToEndTimeStatistics;
+    }
+
+    @Override
+    protected void writeModelState(ObjectOutput out) throws IOException {
+        if (transfersInTransit.get() > 0) {
+            throw new UnsupportedOperationException("Simulation snapshots are not supported while transfer passengers are in transit");
+        }
+        out.writeInt(flightSequence.get());
+        SimulationSnapshot.writeGenerator(out, flightGenerator);
+        out.writeLong(passengerSequence.get());
+        out.writeLong(departedPassengers.sum());
+        out.writeLong(missedFlightPassengers.sum());
+        departureFlightActionStatistics.writeSnapshot(out);
+
+        for (ActionKey actionKey : QUEUE_STAGES) {
+            waitTimeStatistics.get(actionKey).writeSnapshot(out);
+            serviceTimeStatistics.get(actionKey).writeSnapshot(out);
+        }
+        endToEndTimeStatistics.writeSnapshot(out);
+        writeFlights(out, getOpenFlights());
+        writeFlights(out, new ArrayList<>(departedFlights.values()));
+    }
+
+    private List<Flight> getOpenFlights() {
+        synchronized (openFlights) {
+            return new ArrayList<>(openFlights);
+        }
+    }
+
+    private void writeFlights(ObjectOutput out, List<Flight> snapshotFlights) throws IOException {
+        out.writeInt(snapshotFlights.size());
+
+        for (Flight flight : snapshotFlights) {
+            flight.writeSnapshot(out);
+        }
+    }
+
+    @Override
+    protected void readModelState(ObjectInput in) throws IOException {
+        transfersInTransit.set(0);
+        flightSequence.set(in.readInt());
+        flightGenerator = SimulationSnapshot.readGenerator(in);
+        passengerSequence.set(in.readLong());
+        departedPassengers.reset();
+        departedPassengers.add(in.readLong());
+        missedFlightPassengers.reset();
+        missedFlightPassengers.add(in.readLong());
+        departureFlightActionStatistics.readSnapshot(in);
+
+        for (ActionKey actionKey : QUEUE_STAGES) {
+            waitTimeStatistics.get(actionKey).readSnapshot(in);
+            serviceTimeStatistics.get(actionKey).readSnapshot(in);
+        }
+        endToEndTimeStatistics.readSnapshot(in);
+        List<Flight> restoredFlights = readFlights(in, flights);
+        readFlights(in, departedFlights);
+
+        synchronized (openFlights) {
+            openFlights.clear();
+            openFlights.addAll(restoredFlights);
+        }
+    }
+
+    private List<Flight> readFlights(ObjectInput in, Map<Integer, Flight> flights) throws IOException {
+        int size = in.readInt();
+        List<Flight> restoredFlights = new ArrayList<>(size);
+        flights.clear();
+
+        for (int i = 0; i < size; i++) {
+            Flight flight = Flight.readSnapshot(this, in);
+            flights.put(flight.getId(), flight);
+            restoredFlights.add(flight);
+        }
+        return restoredFlights;
+    }
+
+    @Override
+    protected Optional<? extends SimulationEvent> findEvent(ActionKey actionKey, int index) {
+        if (actionKey == DEPARTURE_FLIGHT) {
+            return getFlight(index, false);
+        }
+        if (actionKey == GENERATE_PASSENGER) {
+            return getActionInstances(GENERATE_PASSENGER).stream()
+                    .map(it -> ((GeneratePassengerAction) it).getFlightArrivals(index))
+                    .flatMap(Optional::stream)
+                    .findFirst();
+        }
+        return super.findEvent(actionKey, index);
+    }
+
+    @Override
+    public void writeElement(ObjectOutput out, Passenger passenger) throws IOException {
+        passenger.writeSnapshot(out);
+    }
+
+    @Override
+    public Passenger readElement(ObjectInput in) throws IOException {
+        return Passenger.readSnapshot(in);
+    }
+
+    @Override
+    protected long getElementId(Passenger passenger) {
+        return passenger.getId();
+    }
+
+    public ArrivalMode getArrivalMode() {
+        return simulationConfig.getArrivalMode();
+    }
+
     @Override
     public double getRandomEventProbability() {
         return simulationConfig.getRandomEventProbability();
     }
+
+    @Override
+    public boolean isMonitoredHistoryEnabled() {
+        return simulationConfig.isMonitoredHistoryEnabled();
+    }
+
+    @Override
+    public RoutingStrategyType getRoutingStrategyType(ActionKey actionKey) {
+        return simulationConfig.getRoutingStrategyType(actionKey);
+    }
+
+    @Override
+    public int getBatchSize(ActionKey actionKey) {
+        return simulationConfig.getBatchSize(actionKey);
+    }
+
+    @Override
+    public int getQueueCapacity(ActionKey actionKey) {
+        return simulationConfig.getQueueCapacity(actionKey);
+    }
+
+    @Override
+    public OverflowPolicy getOverflowPolicy(ActionKey actionKey) {
+        return simulationConfig.getOverflowPolicy(actionKey);
+    }
+
+    private static class TransferArrival implements SimulationEvent {
+        private final TerminalSimulationCoordinator simulationCoordinator;
+        private final GeneratePassengerAction generator;
+        private final double generationTime;
+        private final RandomStream admissionRandom;
+
+        private TransferArrival(TerminalSimulationCoordinator simulationCoordinator, GeneratePassengerAction generator, double generationTime,
+                                RandomStream admissionRandom) {
+            this.simulationCoordinator = simulationCoordinator;
+            this.generator = generator;
+            this.generationTime = generationTime;
+            this.admissionRandom = admissionRandom;
+        }
+
+        @Override
+        public ActionKey getKey() {
+            return GENERATE_PASSENGER;
+        }
+
+        @Override
+        public int getIndex() {
+            return generator.getIndex();
+        }
+
+        @Override
+        public void fire() {
+            simulationCoordinator.admitTransfer(generator, generationTime, admissionRandom);
+        }
+    }
 }
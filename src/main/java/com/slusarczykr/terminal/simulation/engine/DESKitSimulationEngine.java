@@ -0,0 +1,124 @@
+package com.slusarczykr.terminal.simulation.engine;
+
+import com.slusarczykr.terminal.simulation.action.AbstractAction;
+import com.slusarczykr.terminal.simulation.coordinator.SimulationCoordinator;
+import deskit.SimActivity;
+import deskit.SimManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public class DESKitSimulationEngine implements SimulationEngine {
+
+    private static final Logger log = LogManager.getLogger(DESKitSimulationEngine.class);
+
+    private final SimulationCoordinator<?> simulationCoordinator;
+    private final SimManager simulationManager;
+    private final Set<EventActivity> eventActivities;
+
+    public DESKitSimulationEngine(SimulationCoordinator<?> simulationCoordinator, SimManager simulationManager) {
+        this.simulationCoordinator = simulationCoordinator;
+        this.simulationManager = simulationManager;
+        this.eventActivities = Collections.synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<>()));
+    }
+
+    @Override
+    public EngineType getType() {
+        return EngineType.DESKIT;
+    }
+
+    @Override
+    public boolean isSimulationRunning() {
+        return simulationManager.getSimTime() <= simulationManager.getStopTime()
+                && simulationManager.getFirstSimObjectFromPendingList() != null;
+    }
+
+    @Override
+    public void call(AbstractAction<?> action) {
+        SimActivity.callActivity(simulationCoordinator, action);
+    }
+
+    @Override
+    public void schedule(double delay, SimulationEvent event) {
+        EventActivity eventActivity = new EventActivity(event, delay);
+        eventActivities.add(eventActivity);
+        SimActivity.callActivity(simulationCoordinator, eventActivity);
+    }
+
+    @Override
+    public boolean await(AbstractAction<?> action, double delay) {
+        return action.awaitActivity(delay);
+    }
+
+    @Override
+    public void terminate(AbstractAction<?> action) {
+        action.terminate();
+    }
+
+    @Override
+    public int getActiveActions() {
+        return getAliveThreads().size();
+    }
+
+    @Override
+    public void startSimulation() {
+        simulationManager.startSimulation();
+    }
+
+    @Override
+    public void stop() {
+        getAliveThreads().forEach(it -> {
+            try {
+                it.resumeActivity();
+                it.terminate();
+            } catch (Exception e) {
+                log.error("Exception thrown during activity termination", e);
+            }
+        });
+    }
+
+    private List<SimActivity> getAliveThreads() {
+        List<EventActivity> scheduledEvents;
+
+        synchronized (eventActivities) {
+            scheduledEvents = List.copyOf(eventActivities);
+        }
+        return Stream.<Object>concat(simulationCoordinator.getStartedActions().stream(), scheduledEvents.stream())
+                .filter(SimActivity.class::isInstance)
+                .map(SimActivity.class::cast)
+                .filter(Thread::isAlive)
+                .collect(Collectors.toList());
+    }
+
+    private class EventActivity extends SimActivity {
+        private final SimulationEvent event;
+        private final double delay;
+
+        private EventActivity(SimulationEvent event, double delay) {
+            this.event = event;
+            this.delay = delay;
+            this.simManager = simulationManager;
+        }
+
+        @Override
+        public void action() {
+            try {
+                waitDuration(delay);
+
+                if (!isStopped() && !isInterrupted()) {
+                    event.fire();
+                }
+            } catch (Exception e) {
+                log.error("Exception thrown during event execution", e);
+            } finally {
+                eventActivities.remove(this);
+            }
+        }
+    }
+}
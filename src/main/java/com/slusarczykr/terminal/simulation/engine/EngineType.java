@@ -0,0 +1,7 @@
+package com.slusarczykr.terminal.simulation.engine;
+
+public enum EngineType {
+    DESKIT,
+    EVENT_CALENDAR,
+    VIRTUAL_THREAD;
+}
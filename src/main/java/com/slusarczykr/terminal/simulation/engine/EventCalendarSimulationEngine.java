@@ -0,0 +1,216 @@
+package com.slusarczykr.terminal.simulation.engine;
+
+import com.slusarczykr.terminal.simulation.action.AbstractAction;
+import com.slusarczykr.terminal.simulation.action.ActionKey;
+import deskit.SimManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.BiFunction;
+
+import static com.slusarczykr.terminal.simulation.action.AbstractAction.ACTION_FINISHED;
+
+public class EventCalendarSimulationEngine implements SimulationEngine {
+
+    private static final Logger log = LogManager.getLogger(EventCalendarSimulationEngine.class);
+
+    private static final byte ACTION_STARTED = 0;
+    private static final byte ACTION_RESUMED = 1;
+    private static final byte EVENT_FIRED = 2;
+
+    private final SimManager simulationManager;
+    private final PriorityQueue<ScheduledEvent> calendar;
+    private final Set<AbstractAction<?>> activeActions;
+    private long eventSequence;
+    private volatile long processedEvents;
+    private boolean stopped;
+
+    public EventCalendarSimulationEngine(SimManager simulationManager) {
+        this.simulationManager = simulationManager;
+        this.calendar = new PriorityQueue<>();
+        this.activeActions = Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    @Override
+    public EngineType getType() {
+        return EngineType.EVENT_CALENDAR;
+    }
+
+    @Override
+    public boolean isSimulationRunning() {
+        return !stopped && simulationManager.getSimTime() <= simulationManager.getStopTime();
+    }
+
+    @Override
+    public void call(AbstractAction<?> action) {
+        if (activeActions.add(action)) {
+            schedule(action, simulationManager.getSimTime(), false);
+        }
+    }
+
+    @Override
+    public void schedule(double delay, SimulationEvent event) {
+        calendar.add(new ScheduledEvent(simulationManager.getSimTime() + delay, eventSequence++, event));
+    }
+
+    @Override
+    public void startSimulation() {
+        runUntil(simulationManager.getStopTime());
+        stopped = true;
+    }
+
+    @Override
+    public void runUntil(double time) {
+        double untilTime = Math.min(time, simulationManager.getStopTime());
+
+        while (!stopped && !calendar.isEmpty() && calendar.peek().time <= untilTime) {
+            ScheduledEvent event = calendar.poll();
+            simulationManager.setSimTime(event.time);
+            execute(event);
+            processedEvents++;
+        }
+    }
+
+    @Override
+    public void writeSnapshot(ObjectOutput out) throws IOException {
+        List<ScheduledEvent> events = new ArrayList<>(calendar);
+        out.writeLong(processedEvents);
+        out.writeLong(eventSequence);
+        out.writeInt(events.size());
+
+        for (ScheduledEvent event : events) {
+            out.writeDouble(event.time);
+            out.writeLong(event.sequence);
+
+            if (event.event != null) {
+                out.writeByte(EVENT_FIRED);
+                out.writeByte(event.event.getKey().ordinal());
+                out.writeInt(event.event.getIndex());
+            } else {
+                out.writeByte(event.resumed ? ACTION_RESUMED : ACTION_STARTED);
+                out.writeByte(event.action.getKey().ordinal());
+                out.writeInt(event.action.getIndex());
+            }
+        }
+    }
+
+    @Override
+    public void readSnapshot(ObjectInput in, BiFunction<ActionKey, Integer, AbstractAction<?>> actionResolver,
+                             BiFunction<ActionKey, Integer, SimulationEvent> eventResolver) throws IOException {
+        calendar.clear();
+        activeActions.clear();
+        processedEvents = in.readLong();
+        eventSequence = in.readLong();
+        int events = in.readInt();
+
+        for (int i = 0; i < events; i++) {
+            double time = in.readDouble();
+            long sequence = in.readLong();
+            byte type = in.readByte();
+            ActionKey actionKey = ActionKey.values()[in.readByte()];
+            int index = in.readInt();
+
+            if (type == EVENT_FIRED) {
+                calendar.add(new ScheduledEvent(time, sequence, eventResolver.apply(actionKey, index)));
+            } else {
+                AbstractAction<?> action = actionResolver.apply(actionKey, index);
+                activeActions.add(action);
+                calendar.add(new ScheduledEvent(time, sequence, action, type == ACTION_RESUMED));
+            }
+        }
+        stopped = false;
+    }
+
+    @Override
+    public long getProcessedEvents() {
+        return processedEvents;
+    }
+
+    @Override
+    public int getActiveActions() {
+        return activeActions.size();
+    }
+
+    private void execute(ScheduledEvent event) {
+        if (event.event != null) {
+            fire(event.event);
+            return;
+        }
+        AbstractAction<?> action = event.action;
+        try {
+            double delay = event.resumed ? action.resumeAction() : action.startAction();
+
+            if (delay == ACTION_FINISHED) {
+                finish(action);
+            } else {
+                schedule(action, event.time + delay, true);
+            }
+        } catch (Exception e) {
+            log.error("Exception thrown during action execution", e);
+            finish(action);
+        }
+    }
+
+    private void fire(SimulationEvent event) {
+        try {
+            event.fire();
+        } catch (Exception e) {
+            log.error("Exception thrown during event execution", e);
+        }
+    }
+
+    private void finish(AbstractAction<?> action) {
+        activeActions.remove(action);
+        action.onActionFinished();
+    }
+
+    private void schedule(AbstractAction<?> action, double time, boolean resumed) {
+        calendar.add(new ScheduledEvent(time, eventSequence++, action, resumed));
+    }
+
+    @Override
+    public void stop() {
+        stopped = true;
+        calendar.clear();
+        new ArrayList<>(activeActions).forEach(this::finish);
+    }
+
+    private static class ScheduledEvent implements Comparable<ScheduledEvent> {
+        private final double time;
+        private final long sequence;
+        private final AbstractAction<?> action;
+        private final boolean resumed;
+        private final SimulationEvent event;
+
+        private ScheduledEvent(double time, long sequence, AbstractAction<?> action, boolean resumed) {
+            this.time = time;
+            this.sequence = sequence;
+            this.action = action;
+            this.resumed = resumed;
+            this.event = null;
+        }
+
+        private ScheduledEvent(double time, long sequence, SimulationEvent event) {
+            this.time = time;
+            this.sequence = sequence;
+            this.action = null;
+            this.resumed = false;
+            this.event = event;
+        }
+
+        @Override
+        public int compareTo(ScheduledEvent other) {
+            int result = Double.compare(time, other.time);
+            return result != 0 ? result : Long.compare(sequence, other.sequence);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.slusarczykr.terminal.simulation.engine;
+
+import deskit.SimManager;
+
+public class IsolatedSimManager extends SimManager {
+
+    private volatile double simTime;
+    private volatile double stopTime;
+
+    @Override
+    public double getSimTime() {
+        return simTime;
+    }
+
+    @Override
+    public void setSimTime(double simTime) {
+        this.simTime = simTime;
+    }
+
+    @Override
+    public double getStopTime() {
+        return stopTime;
+    }
+
+    @Override
+    public void setStopTime(double stopTime) {
+        this.stopTime = stopTime;
+    }
+}
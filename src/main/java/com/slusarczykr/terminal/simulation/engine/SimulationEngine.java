@@ -0,0 +1,52 @@
+package com.slusarczykr.terminal.simulation.engine;
+
+import com.slusarczykr.terminal.simulation.action.AbstractAction;
+import com.slusarczykr.terminal.simulation.action.ActionKey;
+
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.function.BiFunction;
+
+public interface SimulationEngine {
+
+    EngineType getType();
+
+    boolean isSimulationRunning();
+
+    void call(AbstractAction<?> action);
+
+    void schedule(double delay, SimulationEvent event);
+
+    default boolean await(AbstractAction<?> action, double delay) {
+        throw new UnsupportedOperationException(String.format("Engine: '%s' does not support blocking actions", getType()));
+    }
+
+    default void terminate(AbstractAction<?> action) {
+    }
+
+    default long getProcessedEvents() {
+        return 0;
+    }
+
+    default int getActiveActions() {
+        return 0;
+    }
+
+    void startSimulation();
+
+    default void runUntil(double time) {
+        throw new UnsupportedOperationException(String.format("Engine: '%s' does not support paused simulations", getType()));
+    }
+
+    default void writeSnapshot(ObjectOutput out) throws IOException {
+        throw new UnsupportedOperationException(String.format("Engine: '%s' does not support simulation snapshots", getType()));
+    }
+
+    default void readSnapshot(ObjectInput in, BiFunction<ActionKey, Integer, AbstractAction<?>> actionResolver,
+                              BiFunction<ActionKey, Integer, SimulationEvent> eventResolver) throws IOException {
+        throw new UnsupportedOperationException(String.format("Engine: '%s' does not support simulation snapshots", getType()));
+    }
+
+    void stop();
+}
@@ -0,0 +1,12 @@
+package com.slusarczykr.terminal.simulation.engine;
+
+import com.slusarczykr.terminal.simulation.action.ActionKey;
+
+public interface SimulationEvent {
+
+    ActionKey getKey();
+
+    int getIndex();
+
+    void fire();
+}
@@ -0,0 +1,193 @@
+package com.slusarczykr.terminal.simulation.engine;
+
+import com.slusarczykr.terminal.simulation.action.AbstractAction;
+import deskit.SimManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.Semaphore;
+
+public class VirtualThreadSimulationEngine implements SimulationEngine {
+
+    private static final Logger log = LogManager.getLogger(VirtualThreadSimulationEngine.class);
+
+    private final SimManager simulationManager;
+    private final PriorityQueue<Resumption> calendar;
+    private final Map<AbstractAction<?>, Activity> activeActions;
+    private final Semaphore engineTurn;
+    private long resumptionSequence;
+    private volatile long processedEvents;
+    private volatile boolean stopped;
+
+    public VirtualThreadSimulationEngine(SimManager simulationManager) {
+        this.simulationManager = simulationManager;
+        this.calendar = new PriorityQueue<>();
+        this.activeActions = new IdentityHashMap<>();
+        this.engineTurn = new Semaphore(0);
+    }
+
+    @Override
+    public EngineType getType() {
+        return EngineType.VIRTUAL_THREAD;
+    }
+
+    @Override
+    public boolean isSimulationRunning() {
+        return !stopped && simulationManager.getSimTime() <= simulationManager.getStopTime();
+    }
+
+    @Override
+    public void call(AbstractAction<?> action) {
+        if (!activeActions.containsKey(action)) {
+            Activity activity = new Activity(action);
+            activeActions.put(action, activity);
+            schedule(activity, simulationManager.getSimTime());
+        }
+    }
+
+    @Override
+    public boolean await(AbstractAction<?> action, double delay) {
+        Activity activity = activeActions.get(action);
+        schedule(activity, simulationManager.getSimTime() + delay);
+        engineTurn.release();
+        activity.turn.acquireUninterruptibly();
+
+        return stopped;
+    }
+
+    private void schedule(Activity activity, double time) {
+        calendar.add(new Resumption(time, resumptionSequence++, activity, null));
+    }
+
+    @Override
+    public void schedule(double delay, SimulationEvent event) {
+        calendar.add(new Resumption(simulationManager.getSimTime() + delay, resumptionSequence++, null, event));
+    }
+
+    @Override
+    public void startSimulation() {
+        double stopTime = simulationManager.getStopTime();
+
+        while (!stopped && !calendar.isEmpty() && calendar.peek().time <= stopTime) {
+            Resumption resumption = calendar.poll();
+            simulationManager.setSimTime(resumption.time);
+
+            if (resumption.event != null) {
+                fire(resumption.event);
+            } else {
+                handOver(resumption.activity);
+            }
+            processedEvents++;
+        }
+        stop();
+    }
+
+    @Override
+    public long getProcessedEvents() {
+        return processedEvents;
+    }
+
+    @Override
+    public int getActiveActions() {
+        return activeActions.size();
+    }
+
+    private void fire(SimulationEvent event) {
+        try {
+            event.fire();
+        } catch (Exception e) {
+            log.error("Exception thrown during event execution", e);
+        }
+    }
+
+    private void handOver(Activity activity) {
+        activity.resume();
+        engineTurn.acquireUninterruptibly();
+    }
+
+    @Override
+    public void stop() {
+        stopped = true;
+        calendar.clear();
+
+        List<Activity> suspendedActivities = new ArrayList<>(activeActions.values());
+
+        for (Activity activity : suspendedActivities) {
+            if (activity.isStarted()) {
+                handOver(activity);
+            } else {
+                activity.finish();
+            }
+        }
+        activeActions.clear();
+    }
+
+    private class Activity implements Runnable {
+        private final AbstractAction<?> action;
+        private final Semaphore turn;
+        private Thread thread;
+
+        private Activity(AbstractAction<?> action) {
+            this.action = action;
+            this.turn = new Semaphore(0);
+        }
+
+        private boolean isStarted() {
+            return thread != null;
+        }
+
+        private void resume() {
+            if (isStarted()) {
+                turn.release();
+            } else {
+                thread = Thread.ofVirtual()
+                        .name(String.format("%s-%d", action.getKey(), action.getIndex()))
+                        .start(this);
+            }
+        }
+
+        @Override
+        public void run() {
+            try {
+                if (!stopped) {
+                    action.action();
+                }
+            } catch (Exception e) {
+                log.error("Exception thrown during action execution", e);
+            } finally {
+                finish();
+                engineTurn.release();
+            }
+        }
+
+        private void finish() {
+            activeActions.remove(action);
+            action.onActionFinished();
+        }
+    }
+
+    private static class Resumption implements Comparable<Resumption> {
+        private final double time;
+        private final long sequence;
+        private final Activity activity;
+        private final SimulationEvent event;
+
+        private Resumption(double time, long sequence, Activity activity, SimulationEvent event) {
+            this.time = time;
+            this.sequence = sequence;
+            this.activity = activity;
+            this.event = event;
+        }
+
+        @Override
+        public int compareTo(Resumption other) {
+            int result = Double.compare(time, other.time);
+            return result != 0 ? result : Long.compare(sequence, other.sequence);
+        }
+    }
+}
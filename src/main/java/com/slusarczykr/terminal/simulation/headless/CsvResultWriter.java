@@ -0,0 +1,61 @@
+package com.slusarczykr.terminal.simulation.headless;
+
+import com.slusarczykr.terminal.simulation.action.ActionKey;
+import com.slusarczykr.terminal.simulation.replication.ReplicationMetric;
+import com.slusarczykr.terminal.simulation.replication.ReplicationResult;
+import com.slusarczykr.terminal.simulation.replication.ReplicationSummary;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Set;
+
+public class CsvResultWriter implements ResultWriter {
+
+    private static final char SEPARATOR = ',';
+    private static final String LINE_SEPARATOR = "\n";
+
+    @Override
+    public void write(Scenario scenario, ReplicationSummary summary, Writer writer) throws IOException {
+        Set<ActionKey> actionKeys = summary.getAverageActionTimes().keySet();
+        writeHeader(actionKeys, writer);
+
+        for (ReplicationResult result : summary.getResults()) {
+            writeResult(scenario, result, actionKeys, writer);
+        }
+        writer.flush();
+    }
+
+    private void writeHeader(Set<ActionKey> actionKeys, Writer writer) throws IOException {
+        StringBuilder header = new StringBuilder("scenario,replication,seed");
+
+        for (ReplicationMetric metric : ReplicationMetric.values()) {
+            header.append(SEPARATOR).append(metric.name().toLowerCase());
+        }
+        for (ActionKey actionKey : actionKeys) {
+            header.append(SEPARATOR).append("average_").append(actionKey.name().toLowerCase()).append("_time");
+        }
+        writer.write(header.append(LINE_SEPARATOR).toString());
+    }
+
+    private void writeResult(Scenario scenario, ReplicationResult result, Set<ActionKey> actionKeys, Writer writer) throws IOException {
+        StringBuilder row = new StringBuilder()
+                .append(escape(scenario.getName())).append(SEPARATOR)
+                .append(result.getReplication()).append(SEPARATOR)
+                .append(result.getSeed());
+
+        for (ReplicationMetric metric : ReplicationMetric.values()) {
+            row.append(SEPARATOR).append(result.getMetric(metric));
+        }
+        for (ActionKey actionKey : actionKeys) {
+            row.append(SEPARATOR).append(result.getAverageActionTime(actionKey));
+        }
+        writer.write(row.append(LINE_SEPARATOR).toString());
+    }
+
+    private String escape(String value) {
+        if (value.indexOf(SEPARATOR) < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
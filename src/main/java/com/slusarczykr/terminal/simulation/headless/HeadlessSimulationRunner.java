@@ -0,0 +1,112 @@
+package com.slusarczykr.terminal.simulation.headless;
+
+import com.slusarczykr.terminal.simulation.replication.ReplicationRunner;
+import com.slusarczykr.terminal.simulation.replication.ReplicationSummary;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.core.config.Configurator;
+
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+public class HeadlessSimulationRunner {
+
+    private static final Logger log = LogManager.getLogger(HeadlessSimulationRunner.class);
+
+    public static final int SUCCESS_EXIT_CODE = 0;
+    public static final int FAILURE_EXIT_CODE = 1;
+
+    private static final String USAGE = "Usage: terminal-simulation <scenario.properties> [key=value ...]";
+
+    private final PrintStream errorStream;
+
+    public HeadlessSimulationRunner() {
+        this.errorStream = new PrintStream(new FileOutputStream(FileDescriptor.err), true);
+    }
+
+    public int run(String[] args) {
+        try {
+            Scenario scenario = Scenario.load(Paths.get(args[0]), parseOverrides(args));
+            configureLogging(scenario);
+            ReplicationSummary summary = runScenario(scenario);
+            writeResult(scenario, summary);
+
+            return SUCCESS_EXIT_CODE;
+        } catch (Exception e) {
+            log.error("Exception thrown during simulation scenario execution", e);
+            errorStream.println(String.format("Simulation scenario failed: %s", Optional.ofNullable(e.getMessage()).orElse(e.toString())));
+            errorStream.println(USAGE);
+
+            if (!log.isErrorEnabled()) {
+                e.printStackTrace(errorStream);
+            }
+            return FAILURE_EXIT_CODE;
+        }
+    }
+
+    private Map<String, String> parseOverrides(String[] args) {
+        Map<String, String> overrides = new LinkedHashMap<>();
+
+        for (int i = 1; i < args.length; i++) {
+            int separatorIndex = args[i].indexOf('=');
+
+            if (separatorIndex <= 0) {
+                throw new IllegalArgumentException(String.format("Invalid scenario override: '%s'! Expected key=value", args[i]));
+            }
+            overrides.put(args[i].substring(0, separatorIndex).trim(), args[i].substring(separatorIndex + 1).trim());
+        }
+        return overrides;
+    }
+
+    private void configureLogging(Scenario scenario) {
+        Level loggerLevel = scenario.getOutputFile().isPresent() ? Level.WARN : Level.OFF;
+        Configurator.setAllLevels(LogManager.getRootLogger().getName(), loggerLevel);
+    }
+
+    private ReplicationSummary runScenario(Scenario scenario) {
+        ReplicationRunner replicationRunner = new ReplicationRunner(scenario.getSimulationConfig(),
+                scenario.getParallelism(), scenario.getConfidenceLevel());
+
+        if (scenario.getAirportConfig().isMultiTerminal()) {
+            if (scenario.getReplications() > 1) {
+                throw new UnsupportedOperationException("Airport simulations do not support replications");
+            }
+            return replicationRunner.runAirport(scenario.getAirportConfig());
+        }
+        return replicationRunner.run(scenario.getReplications());
+    }
+
+    private void writeResult(Scenario scenario, ReplicationSummary summary) throws IOException {
+        ResultWriter resultWriter = createResultWriter(scenario.getOutputFormat());
+        Optional<Path> outputFile = scenario.getOutputFile();
+
+        try (OutputStream outputStream = outputFile.isPresent()
+                ? Files.newOutputStream(outputFile.get())
+                : new FileOutputStream(FileDescriptor.out);
+             Writer writer = new OutputStreamWriter(outputStream, StandardCharsets.UTF_8)) {
+            resultWriter.write(scenario, summary, writer);
+        }
+    }
+
+    private ResultWriter createResultWriter(OutputFormat outputFormat) {
+        switch (outputFormat) {
+            case CSV:
+                return new CsvResultWriter();
+            default:
+                return new JsonResultWriter();
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.slusarczykr.terminal.simulation.headless;
+
+import com.slusarczykr.terminal.simulation.action.ActionKey;
+import com.slusarczykr.terminal.simulation.config.SimulationConfiguration;
+import com.slusarczykr.terminal.simulation.replication.ConfidenceInterval;
+import com.slusarczykr.terminal.simulation.replication.ReplicationMetric;
+import com.slusarczykr.terminal.simulation.replication.ReplicationResult;
+import com.slusarczykr.terminal.simulation.replication.ReplicationSummary;
+import com.slusarczykr.terminal.simulation.time.SimulationTime;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.ToDoubleFunction;
+
+import static com.slusarczykr.terminal.simulation.action.ActionKey.CHECK_IN;
+import static com.slusarczykr.terminal.simulation.action.ActionKey.GENERATE_PASSENGER;
+import static com.slusarczykr.terminal.simulation.action.ActionKey.SECURITY_CHECK;
+
+public class JsonResultWriter implements ResultWriter {
+
+    private static final List<ActionKey> CONFIGURABLE_ACTIONS = Arrays.asList(GENERATE_PASSENGER, CHECK_IN, SECURITY_CHECK);
+
+    @Override
+    public void write(Scenario scenario, ReplicationSummary summary, Writer writer) throws IOException {
+        StringBuilder json = new StringBuilder("{");
+        appendName(json, "scenario").append(quote(scenario.getName())).append(',');
+        appendName(json, "configuration");
+        appendConfiguration(json, scenario);
+        json.append(',');
+        appendName(json, "replications").append(summary.getReplications()).append(',');
+        appendName(json, "confidenceLevel").append(number(summary.getConfidenceLevel())).append(',');
+        appendName(json, "summary");
+        appendSummary(json, summary);
+        json.append(',');
+        appendName(json, "results");
+        appendResults(json, summary);
+        json.append("}\n");
+
+        writer.write(json.toString());
+        writer.flush();
+    }
+
+    private void appendConfiguration(StringBuilder json, Scenario scenario) {
+        SimulationConfiguration simulationConfig = scenario.getSimulationConfig();
+        json.append('{');
+        appendName(json, "simulationDuration").append(number(simulationConfig.getSimulationDuration())).append(',');
+        appendName(json, "simulationTimeUnit").append(quote(SimulationTime.UNIT.name())).append(',');
+        appendName(json, "maxFlightsNumber").append(simulationConfig.getMaxFlightsNumber()).append(',');
+        appendName(json, "randomEventProbability").append(number(simulationConfig.getRandomEventProbability())).append(',');
+        appendName(json, "engine").append(quote(simulationConfig.getEngineType().name())).append(',');
+        appendName(json, "arrivalMode").append(quote(simulationConfig.getArrivalMode().name())).append(',');
+        simulationConfig.getTimetableFile().ifPresent(it -> appendName(json, "timetable").append(quote(it.toString())).append(','));
+        appendName(json, "seed").append(simulationConfig.getSeed()).append(',');
+        appendName(json, "actions").append('{');
+
+        for (Iterator<ActionKey> iterator = CONFIGURABLE_ACTIONS.iterator(); iterator.hasNext(); ) {
+            ActionKey actionKey = iterator.next();
+            appendName(json, actionKey.name()).append('{');
+            appendName(json, "instances").append(simulationConfig.getActionInstances(actionKey)).append(',');
+            appendName(json, "routing").append(quote(simulationConfig.getRoutingStrategyType(actionKey).name())).append(',');
+            appendName(json, "batchSize").append(simulationConfig.getBatchSize(actionKey)).append(',');
+            appendName(json, "queueCapacity").append(simulationConfig.getQueueCapacity(actionKey)).append(',');
+            appendName(json, "overflowPolicy").append(quote(simulationConfig.getOverflowPolicy(actionKey).name()));
+            json.append(iterator.hasNext() ? "}," : "}");
+        }
+        json.append("}}");
+    }
+
+    private void appendSummary(StringBuilder json, ReplicationSummary summary) {
+        json.append('{');
+        appendName(json, "metrics");
+        appendConfidenceIntervals(json, summary.getMetrics());
+        json.append(',');
+        appendName(json, "averageActionTimes");
+        appendConfidenceIntervals(json, summary.getAverageActionTimes());
+        json.append('}');
+    }
+
+    private <K extends Enum<K>> void appendConfidenceIntervals(StringBuilder json, Map<K, ConfidenceInterval> intervals) {
+        json.append('{');
+
+        for (Iterator<Map.Entry<K, ConfidenceInterval>> iterator = intervals.entrySet().iterator(); iterator.hasNext(); ) {
+            Map.Entry<K, ConfidenceInterval> entry = iterator.next();
+            ConfidenceInterval interval = entry.getValue();
+            appendName(json, entry.getKey().name()).append('{');
+            appendName(json, "mean").append(number(interval.getMean())).append(',');
+            appendName(json, "standardDeviation").append(number(interval.getStandardDeviation())).append(',');
+            appendName(json, "halfWidth").append(number(interval.getHalfWidth())).append(',');
+            appendName(json, "lowerBound").append(number(interval.getLowerBound())).append(',');
+            appendName(json, "upperBound").append(number(interval.getUpperBound()));
+            json.append(iterator.hasNext() ? "}," : "}");
+        }
+        json.append('}');
+    }
+
+    private void appendResults(StringBuilder json, ReplicationSummary summary) {
+        Set<ActionKey> actionKeys = summary.getAverageActionTimes().keySet();
+        json.append('[');
+
+        for (Iterator<ReplicationResult> iterator = summary.getResults().iterator(); iterator.hasNext(); ) {
+            ReplicationResult result = iterator.next();
+            json.append('{');
+            appendName(json, "replication").append(result.getReplication()).append(',');
+            appendName(json, "seed").append(result.getSeed()).append(',');
+            appendName(json, "metrics").append('{');
+            appendValues(json, Arrays.asList(ReplicationMetric.values()), result::getMetric);
+            json.append("},");
+            appendName(json, "averageActionTimes").append('{');
+            appendValues(json, actionKeys, result::getAverageActionTime);
+            json.append(iterator.hasNext() ? "}}," : "}}");
+        }
+        json.append(']');
+    }
+
+    private <K extends Enum<K>> void appendValues(StringBuilder json, Iterable<K> keys, ToDoubleFunction<K> valueExtractor) {
+        for (Iterator<K> iterator = keys.iterator(); iterator.hasNext(); ) {
+            K key = iterator.next();
+            appendName(json, key.name()).append(number(valueExtractor.applyAsDouble(key)));
+
+            if (iterator.hasNext()) {
+                json.append(',');
+            }
+        }
+    }
+
+    private StringBuilder appendName(StringBuilder json, String name) {
+        return json.append(quote(name)).append(':');
+    }
+
+    private String number(double value) {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            return "null";
+        }
+        return String.valueOf(value);
+    }
+
+    private String quote(String value) {
+        StringBuilder quoted = new StringBuilder("\"");
+
+        for (char character : value.toCharArray()) {
+            switch (character) {
+                case '"':
+                    quoted.append("\\\"");
+                    break;
+                case '\\':
+                    quoted.append("\\\\");
+                    break;
+                case '\n':
+                    quoted.append("\\n");
+                    break;
+                case '\r':
+                    quoted.append("\\r");
+                    break;
+                case '\t':
+                    quoted.append("\\t");
+                    break;
+                default:
+                    if (character < 0x20) {
+                        quoted.append(String.format("\\u%04x", (int) character));
+                    } else {
+                        quoted.append(character);
+                    }
+            }
+        }
+        return quoted.append('"').toString();
+    }
+}
@@ -0,0 +1,6 @@
+package com.slusarczykr.terminal.simulation.headless;
+
+public enum OutputFormat {
+    JSON,
+    CSV;
+}
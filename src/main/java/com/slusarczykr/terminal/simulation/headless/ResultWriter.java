@@ -0,0 +1,11 @@
+package com.slusarczykr.terminal.simulation.headless;
+
+import com.slusarczykr.terminal.simulation.replication.ReplicationSummary;
+
+import java.io.IOException;
+import java.io.Writer;
+
+public interface ResultWriter {
+
+    void write(Scenario scenario, ReplicationSummary summary, Writer writer) throws IOException;
+}
@@ -0,0 +1,202 @@
+package com.slusarczykr.terminal.simulation.headless;
+
+import com.slusarczykr.terminal.simulation.action.ActionKey;
+import com.slusarczykr.terminal.simulation.airport.AirportConfiguration;
+import com.slusarczykr.terminal.simulation.config.SimulationConfiguration;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.ThreadLocalRandom;
+
+public class Scenario {
+
+    public static final String SIMULATION_DURATION = "simulation.duration";
+    public static final String MAX_FLIGHTS_NUMBER = "simulation.maxFlights";
+    public static final String RANDOM_EVENT_PROBABILITY = "simulation.randomEventProbability";
+    public static final String ENGINE_TYPE = "simulation.engine";
+    public static final String ARRIVAL_MODE = "simulation.arrivals.mode";
+    public static final String FLIGHT_CAPACITY = "simulation.arrivals.flightCapacity";
+    public static final String LOAD_FACTOR = "simulation.arrivals.loadFactor";
+    public static final String TIMETABLE_FILE = "simulation.timetable.file";
+    public static final String TIMETABLE_OPEN_WINDOW = "simulation.timetable.openWindow";
+    public static final String SEED = "simulation.seed";
+    public static final String MONITORED_HISTORY = "simulation.monitoredHistory";
+    public static final String TRACE_FILE = "simulation.trace.file";
+    public static final String TRACE_CAPACITY = "simulation.trace.capacity";
+    public static final String METRICS_PORT = "simulation.metrics.port";
+    public static final String METRICS_JMX = "simulation.metrics.jmx";
+    public static final String ACTION_PREFIX = "action.";
+    public static final String ACTION_INSTANCES_SUFFIX = ".instances";
+    public static final String ACTION_ROUTING_SUFFIX = ".routing";
+    public static final String ACTION_BATCH_SIZE_SUFFIX = ".batchSize";
+    public static final String ACTION_QUEUE_CAPACITY_SUFFIX = ".queueCapacity";
+    public static final String ACTION_OVERFLOW_POLICY_SUFFIX = ".overflowPolicy";
+    public static final String AIRPORT_TERMINALS = "airport.terminals";
+    public static final String AIRPORT_TRANSFER_PROBABILITY = "airport.transferProbability";
+    public static final String AIRPORT_MIN_TRANSFER_TIME = "airport.minTransferTime";
+    public static final String AIRPORT_SYNCHRONIZATION = "airport.synchronization";
+    public static final String AIRPORT_OPTIMISTIC_WINDOW = "airport.optimisticWindow";
+    public static final String REPLICATIONS = "replications";
+    public static final String PARALLELISM = "replications.parallelism";
+    public static final String CONFIDENCE_LEVEL = "replications.confidenceLevel";
+    public static final String OUTPUT_FORMAT = "output.format";
+    public static final String OUTPUT_FILE = "output.file";
+
+    private static final int DEFAULT_REPLICATIONS = 1;
+    private static final double DEFAULT_CONFIDENCE_LEVEL = 0.95;
+    private static final OutputFormat DEFAULT_OUTPUT_FORMAT = OutputFormat.JSON;
+
+    private final String name;
+    private final SimulationConfiguration simulationConfig;
+    private final AirportConfiguration airportConfig;
+    private final int replications;
+    private final int parallelism;
+    private final double confidenceLevel;
+    private final OutputFormat outputFormat;
+    private final Path outputFile;
+
+    private Scenario(String name, Properties properties) {
+        this.name = name;
+        this.simulationConfig = createSimulationConfiguration(properties);
+        this.airportConfig = createAirportConfiguration(properties);
+        this.replications = getInt(properties, REPLICATIONS, DEFAULT_REPLICATIONS);
+        this.parallelism = getInt(properties, PARALLELISM, Runtime.getRuntime().availableProcessors());
+        this.confidenceLevel = getDouble(properties, CONFIDENCE_LEVEL, DEFAULT_CONFIDENCE_LEVEL);
+        this.outputFormat = toOutputFormat(properties.getProperty(OUTPUT_FORMAT, DEFAULT_OUTPUT_FORMAT.name()));
+        this.outputFile = Optional.ofNullable(properties.getProperty(OUTPUT_FILE))
+                .map(Paths::get)
+                .orElse(null);
+    }
+
+    public static Scenario load(Path scenarioFile, Map<String, String> overrides) throws IOException {
+        Properties properties = new Properties();
+
+        try (Reader reader = Files.newBufferedReader(scenarioFile, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+        overrides.forEach(properties::setProperty);
+
+        return new Scenario(scenarioFile.getFileName().toString(), properties);
+    }
+
+    private static SimulationConfiguration createSimulationConfiguration(Properties properties) {
+        SimulationConfiguration simulationConfig = new SimulationConfiguration();
+        getOptional(properties, SIMULATION_DURATION).ifPresent(it -> simulationConfig.setSimulationDuration(toDuration(it)));
+        getOptional(properties, MAX_FLIGHTS_NUMBER).ifPresent(it -> simulationConfig.setMaxFlightsNumber(Integer.parseInt(it)));
+        getOptional(properties, RANDOM_EVENT_PROBABILITY).ifPresent(it -> simulationConfig.setRandomEventProbability(Double.parseDouble(it)));
+        getOptional(properties, ENGINE_TYPE).ifPresent(simulationConfig::setEngineType);
+        getOptional(properties, ARRIVAL_MODE).ifPresent(simulationConfig::setArrivalMode);
+        getOptional(properties, FLIGHT_CAPACITY).ifPresent(it -> simulationConfig.setFlightCapacity(Integer.parseInt(it)));
+        getOptional(properties, LOAD_FACTOR).ifPresent(it -> simulationConfig.setLoadFactor(Double.parseDouble(it)));
+        getOptional(properties, TIMETABLE_FILE).ifPresent(simulationConfig::setTimetableFile);
+        getOptional(properties, TIMETABLE_OPEN_WINDOW).ifPresent(it -> simulationConfig.setTimetableOpenWindow(toDuration(it)));
+        getOptional(properties, MONITORED_HISTORY).ifPresent(it -> simulationConfig.setMonitoredHistoryEnabled(Boolean.parseBoolean(it)));
+        getOptional(properties, TRACE_FILE).ifPresent(simulationConfig::setTraceFile);
+        getOptional(properties, TRACE_CAPACITY).ifPresent(it -> simulationConfig.setTraceCapacity(Integer.parseInt(it)));
+        getOptional(properties, METRICS_PORT).ifPresent(it -> simulationConfig.setMetricsPort(Integer.parseInt(it)));
+        getOptional(properties, METRICS_JMX).ifPresent(it -> simulationConfig.setMetricsJmxEnabled(Boolean.parseBoolean(it)));
+        simulationConfig.setSeed(getOptional(properties, SEED)
+                .map(Long::parseLong)
+                .orElseGet(() -> ThreadLocalRandom.current().nextLong()));
+
+        Arrays.stream(ActionKey.values()).forEach(actionKey -> {
+            getOptional(properties, ACTION_PREFIX + actionKey.name() + ACTION_INSTANCES_SUFFIX)
+                    .ifPresent(it -> simulationConfig.setActionInstances(actionKey, Integer.parseInt(it)));
+            getOptional(properties, ACTION_PREFIX + actionKey.name() + ACTION_ROUTING_SUFFIX)
+                    .ifPresent(it -> simulationConfig.setRoutingStrategyType(actionKey, it));
+            getOptional(properties, ACTION_PREFIX + actionKey.name() + ACTION_BATCH_SIZE_SUFFIX)
+                    .ifPresent(it -> simulationConfig.setBatchSize(actionKey, Integer.parseInt(it)));
+            getOptional(properties, ACTION_PREFIX + actionKey.name() + ACTION_QUEUE_CAPACITY_SUFFIX)
+                    .ifPresent(it -> simulationConfig.setQueueCapacity(actionKey, Integer.parseInt(it)));
+            getOptional(properties, ACTION_PREFIX + actionKey.name() + ACTION_OVERFLOW_POLICY_SUFFIX)
+                    .ifPresent(it -> simulationConfig.setOverflowPolicy(actionKey, it));
+        });
+        return simulationConfig;
+    }
+
+    private static AirportConfiguration createAirportConfiguration(Properties properties) {
+        AirportConfiguration airportConfig = new AirportConfiguration();
+        getOptional(properties, AIRPORT_TERMINALS).ifPresent(it -> airportConfig.setTerminals(Integer.parseInt(it)));
+        getOptional(properties, AIRPORT_TRANSFER_PROBABILITY).ifPresent(it -> airportConfig.setTransferProbability(Double.parseDouble(it)));
+        getOptional(properties, AIRPORT_MIN_TRANSFER_TIME).ifPresent(it -> airportConfig.setMinTransferTime(toDuration(it)));
+        getOptional(properties, AIRPORT_SYNCHRONIZATION).ifPresent(airportConfig::setSynchronizationMode);
+        getOptional(properties, AIRPORT_OPTIMISTIC_WINDOW).ifPresent(it -> airportConfig.setOptimisticWindow(toDuration(it)));
+
+        return airportConfig;
+    }
+
+    private static Duration toDuration(String duration) {
+        if (duration.toUpperCase().startsWith("P")) {
+            return Duration.parse(duration.toUpperCase());
+        }
+        return Duration.ofSeconds(Long.parseLong(duration));
+    }
+
+    private static Optional<String> getOptional(Properties properties, String key) {
+        return Optional.ofNullable(properties.getProperty(key))
+                .map(String::trim)
+                .filter(it -> !it.isEmpty());
+    }
+
+    private static int getInt(Properties properties, String key, int defaultValue) {
+        return getOptional(properties, key)
+                .map(Integer::parseInt)
+                .orElse(defaultValue);
+    }
+
+    private static double getDouble(Properties properties, String key, double defaultValue) {
+        return getOptional(properties, key)
+                .map(Double::parseDouble)
+                .orElse(defaultValue);
+    }
+
+    private static OutputFormat toOutputFormat(String outputFormat) {
+        try {
+            return OutputFormat.valueOf(outputFormat.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(String.format("Invalid output format: '%s'! Valid values: %s",
+                    outputFormat, Arrays.toString(OutputFormat.values())));
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public SimulationConfiguration getSimulationConfig() {
+        return simulationConfig;
+    }
+
+    public AirportConfiguration getAirportConfig() {
+        return airportConfig;
+    }
+
+    public int getReplications() {
+        return replications;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public double getConfidenceLevel() {
+        return confidenceLevel;
+    }
+
+    public OutputFormat getOutputFormat() {
+        return outputFormat;
+    }
+
+    public Optional<Path> getOutputFile() {
+        return Optional.ofNullable(outputFile);
+    }
+}
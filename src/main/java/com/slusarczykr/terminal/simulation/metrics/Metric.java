@@ -0,0 +1,64 @@
+package com.slusarczykr.terminal.simulation.metrics;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class Metric {
+
+    private final String name;
+    private final String help;
+    private final MetricType type;
+    private final List<Sample> samples;
+
+    public Metric(String name, String help, MetricType type) {
+        this.name = name;
+        this.help = help;
+        this.type = type;
+        this.samples = new ArrayList<>();
+    }
+
+    public Metric addSample(double value) {
+        return addSample(new LinkedHashMap<>(), value);
+    }
+
+    public Metric addSample(Map<String, String> labels, double value) {
+        samples.add(new Sample(labels, value));
+        return this;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getHelp() {
+        return help;
+    }
+
+    public MetricType getType() {
+        return type;
+    }
+
+    public List<Sample> getSamples() {
+        return samples;
+    }
+
+    public static class Sample {
+        private final Map<String, String> labels;
+        private final double value;
+
+        public Sample(Map<String, String> labels, double value) {
+            this.labels = labels;
+            this.value = value;
+        }
+
+        public Map<String, String> getLabels() {
+            return labels;
+        }
+
+        public double getValue() {
+            return value;
+        }
+    }
+}
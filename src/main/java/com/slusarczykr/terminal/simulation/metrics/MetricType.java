@@ -0,0 +1,6 @@
+package com.slusarczykr.terminal.simulation.metrics;
+
+public enum MetricType {
+    COUNTER,
+    GAUGE;
+}
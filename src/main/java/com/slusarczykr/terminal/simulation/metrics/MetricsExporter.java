@@ -0,0 +1,135 @@
+package com.slusarczykr.terminal.simulation.metrics;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import javax.management.ObjectName;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+
+public final class MetricsExporter {
+
+    private static final Logger log = LogManager.getLogger(MetricsExporter.class);
+
+    private static final String METRICS_PATH = "/metrics";
+    private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+    private static final String OBJECT_NAME = "com.slusarczykr.terminal.simulation:type=SimulationMetrics,seed=%d";
+
+    private static final List<SimulationMetrics> registeredMetrics = new CopyOnWriteArrayList<>();
+    private static HttpServer httpServer;
+
+    private MetricsExporter() {
+    }
+
+    public static synchronized void register(SimulationMetrics simulationMetrics, int port, boolean jmxEnabled) {
+        registeredMetrics.add(simulationMetrics);
+
+        if (jmxEnabled) {
+            registerMBean(simulationMetrics);
+        }
+        if (port > 0) {
+            startHttpServer(port);
+        }
+    }
+
+    public static synchronized void unregister(SimulationMetrics simulationMetrics) {
+        registeredMetrics.remove(simulationMetrics);
+
+        try {
+            ObjectName objectName = toObjectName(simulationMetrics);
+
+            if (ManagementFactory.getPlatformMBeanServer().isRegistered(objectName)) {
+                ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+            }
+        } catch (Exception e) {
+            log.error("Exception thrown during metrics MBean unregistration", e);
+        }
+    }
+
+    private static void registerMBean(SimulationMetrics simulationMetrics) {
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(simulationMetrics, toObjectName(simulationMetrics));
+        } catch (Exception e) {
+            log.error("Exception thrown during metrics MBean registration", e);
+        }
+    }
+
+    private static ObjectName toObjectName(SimulationMetrics simulationMetrics) throws Exception {
+        return new ObjectName(String.format(OBJECT_NAME, simulationMetrics.getSeed()));
+    }
+
+    private static void startHttpServer(int port) {
+        if (httpServer != null) {
+            if (httpServer.getAddress().getPort() != port) {
+                log.warn("Metrics endpoint is already running on port: {}", httpServer.getAddress().getPort());
+            }
+            return;
+        }
+        try {
+            httpServer = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+            httpServer.createContext(METRICS_PATH, MetricsExporter::handle);
+            httpServer.setExecutor(Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "metrics-exporter");
+                thread.setDaemon(true);
+                return thread;
+            }));
+            httpServer.start();
+            log.info("Metrics endpoint available at: http://localhost:{}{}", port, METRICS_PATH);
+        } catch (IOException e) {
+            httpServer = null;
+            log.error("Exception thrown during metrics endpoint startup", e);
+        }
+    }
+
+    private static void handle(HttpExchange exchange) throws IOException {
+        try {
+            byte[] response = render().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+            exchange.sendResponseHeaders(200, response.length);
+
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(response);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    public static String render() {
+        Map<String, List<Metric>> nameToMetrics = new LinkedHashMap<>();
+        Map<Metric, Long> metricToSeed = new LinkedHashMap<>();
+
+        registeredMetrics.forEach(simulationMetrics -> simulationMetrics.collect().forEach(it -> {
+            nameToMetrics.computeIfAbsent(it.getName(), name -> new ArrayList<>()).add(it);
+            metricToSeed.put(it, simulationMetrics.getSeed());
+        }));
+        StringBuilder exposition = new StringBuilder();
+
+        nameToMetrics.forEach((name, metrics) -> {
+            Metric first = metrics.get(0);
+            exposition.append("# HELP ").append(name).append(' ').append(first.getHelp()).append('\n');
+            exposition.append("# TYPE ").append(name).append(' ').append(first.getType().name().toLowerCase()).append('\n');
+            metrics.forEach(metric -> metric.getSamples().forEach(sample ->
+                    appendSample(exposition, name, metricToSeed.get(metric), sample)));
+        });
+        return exposition.toString();
+    }
+
+    private static void appendSample(StringBuilder exposition, String name, long seed, Metric.Sample sample) {
+        exposition.append(name).append("{seed=\"").append(seed).append('"');
+        sample.getLabels().forEach((label, value) -> exposition.append(',').append(label).append("=\"").append(value).append('"'));
+        exposition.append("} ").append(sample.getValue()).append('\n');
+    }
+}
@@ -0,0 +1,146 @@
+package com.slusarczykr.terminal.simulation.metrics;
+
+import com.slusarczykr.terminal.simulation.action.Action;
+import com.slusarczykr.terminal.simulation.action.ActionKey;
+import com.slusarczykr.terminal.simulation.coordinator.TerminalSimulationCoordinator;
+import com.slusarczykr.terminal.simulation.model.Passenger;
+import com.slusarczykr.terminal.simulation.time.SimulationTime;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.slusarczykr.terminal.simulation.coordinator.TerminalSimulationCoordinator.QUEUE_STAGES;
+
+public class SimulationMetrics implements SimulationMetricsMXBean {
+
+    private static final String PREFIX = "terminal_simulation_";
+
+    private final TerminalSimulationCoordinator simulationCoordinator;
+    private final long startTime;
+
+    public SimulationMetrics(TerminalSimulationCoordinator simulationCoordinator) {
+        this.simulationCoordinator = simulationCoordinator;
+        this.startTime = System.nanoTime();
+    }
+
+    @Override
+    public long getSeed() {
+        return simulationCoordinator.getSeed();
+    }
+
+    @Override
+    public double getSimulationTimeInSeconds() {
+        return SimulationTime.toSeconds(simulationCoordinator.getSimTime());
+    }
+
+    @Override
+    public long getProcessedEvents() {
+        return simulationCoordinator.getEngine().getProcessedEvents();
+    }
+
+    @Override
+    public double getProcessedEventsPerSecond() {
+        double elapsedSeconds = (System.nanoTime() - startTime) / 1_000_000_000.0;
+        return elapsedSeconds > 0 ? getProcessedEvents() / elapsedSeconds : 0.0;
+    }
+
+    @Override
+    public int getActiveActions() {
+        return simulationCoordinator.getEngine().getActiveActions();
+    }
+
+    @Override
+    public int getActiveRandomEvents() {
+        return simulationCoordinator.getActiveRandomEventActions();
+    }
+
+    @Override
+    public int getOpenFlights() {
+        return simulationCoordinator.getOpenFlightsNumber();
+    }
+
+    @Override
+    public int getDepartedFlights() {
+        return simulationCoordinator.getDepartedFlightsNumber();
+    }
+
+    @Override
+    public long getDepartedPassengers() {
+        return simulationCoordinator.getDepartedPassengersNumber();
+    }
+
+    @Override
+    public long getMissedFlightPassengers() {
+        return simulationCoordinator.getMissedFlightPassengersNumber();
+    }
+
+    @Override
+    public long getRejectedPassengers() {
+        return simulationCoordinator.getRejectedPassengersNumber();
+    }
+
+    @Override
+    public Map<String, Integer> getQueueLengths() {
+        Map<String, Integer> queueLengths = new LinkedHashMap<>();
+        QUEUE_STAGES.forEach(actionKey -> simulationCoordinator.getActionInstances(actionKey)
+                .forEach(it -> queueLengths.put(actionKey.name() + "-" + it.getIndex(), it.getQueue().getLength())));
+
+        return queueLengths;
+    }
+
+    public List<Metric> collect() {
+        List<Metric> metrics = new ArrayList<>();
+        metrics.add(new Metric(PREFIX + "time_seconds", "Current simulation clock", MetricType.GAUGE)
+                .addSample(getSimulationTimeInSeconds()));
+        metrics.add(new Metric(PREFIX + "events_total", "Events processed by the simulation engine", MetricType.COUNTER)
+                .addSample(getProcessedEvents()));
+        metrics.add(new Metric(PREFIX + "active_actions", "Actions currently scheduled by the simulation engine", MetricType.GAUGE)
+                .addSample(getActiveActions()));
+        metrics.add(new Metric(PREFIX + "active_random_events", "Random events currently in progress", MetricType.GAUGE)
+                .addSample(getActiveRandomEvents()));
+        metrics.add(new Metric(PREFIX + "flights", "Flights by state", MetricType.GAUGE)
+                .addSample(labels("state", "open"), getOpenFlights())
+                .addSample(labels("state", "departed"), getDepartedFlights()));
+        metrics.add(new Metric(PREFIX + "passengers_total", "Passengers by final state", MetricType.COUNTER)
+                .addSample(labels("state", "departed"), getDepartedPassengers())
+                .addSample(labels("state", "missed"), getMissedFlightPassengers())
+                .addSample(labels("state", "rejected"), getRejectedPassengers()));
+        metrics.add(collectActionInvocations());
+        metrics.add(collectQueueMetric("queue_length", "Action queue length", it -> it.getQueue().getLength()));
+        metrics.add(collectQueueMetric("queue_busy", "Action server busy state", it -> it.getQueue().isOccupied() ? 1 : 0));
+
+        return metrics;
+    }
+
+    private Metric collectActionInvocations() {
+        Metric metric = new Metric(PREFIX + "action_invocations_total", "Completed action invocations", MetricType.COUNTER);
+        Arrays.stream(ActionKey.values())
+                .forEach(it -> metric.addSample(labels("action", it.name()), simulationCoordinator.getActionInvocations(it)));
+
+        return metric;
+    }
+
+    private Metric collectQueueMetric(String name, String help, QueueValue queueValue) {
+        Metric metric = new Metric(PREFIX + name, help, MetricType.GAUGE);
+        QUEUE_STAGES.forEach(actionKey -> simulationCoordinator.getActionInstances(actionKey).forEach(it -> {
+            Map<String, String> labels = labels("action", actionKey.name());
+            labels.put("index", String.valueOf(it.getIndex()));
+            metric.addSample(labels, queueValue.get(it));
+        }));
+        return metric;
+    }
+
+    private static Map<String, String> labels(String name, String value) {
+        Map<String, String> labels = new LinkedHashMap<>();
+        labels.put(name, value);
+
+        return labels;
+    }
+
+    private interface QueueValue {
+        double get(Action<Passenger> action);
+    }
+}
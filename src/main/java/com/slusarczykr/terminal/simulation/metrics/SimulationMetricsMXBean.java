@@ -0,0 +1,30 @@
+package com.slusarczykr.terminal.simulation.metrics;
+
+import java.util.Map;
+
+public interface SimulationMetricsMXBean {
+
+    long getSeed();
+
+    double getSimulationTimeInSeconds();
+
+    long getProcessedEvents();
+
+    double getProcessedEventsPerSecond();
+
+    int getActiveActions();
+
+    int getActiveRandomEvents();
+
+    int getOpenFlights();
+
+    int getDepartedFlights();
+
+    long getDepartedPassengers();
+
+    long getMissedFlightPassengers();
+
+    long getRejectedPassengers();
+
+    Map<String, Integer> getQueueLengths();
+}
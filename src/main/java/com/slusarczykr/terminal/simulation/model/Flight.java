@@ -1,78 +1,129 @@
 package com.slusarczykr.terminal.simulation.model;
 
-import com.slusarczykr.terminal.simulation.action.DepartureFlightAction;
+import com.slusarczykr.terminal.simulation.action.ActionKey;
 import com.slusarczykr.terminal.simulation.coordinator.TerminalSimulationCoordinator;
-import deskit.SimManager;
-import deskit.SimObject;
+import com.slusarczykr.terminal.simulation.engine.SimulationEvent;
+import com.slusarczykr.terminal.simulation.timetable.TimetableEntry;
 
-import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.Optional;
 
-public class Flight extends SimObject {
+import static com.slusarczykr.terminal.simulation.action.ActionKey.DEPARTURE_FLIGHT;
 
-    private static int flightIdOffset = 0;
+public class Flight implements SimulationEvent {
 
     private final TerminalSimulationCoordinator simulationCoordinator;
     private final int id;
-    private final Set<Passenger> passengers;
-    private final Set<Passenger> missedPassengers;
-    private final DepartureFlightAction action;
-    private final boolean executed;
+    private final PassengerStore passengers;
+    private final PassengerStore missedPassengers;
+    private TimetableEntry timetableEntry;
+    private double openTime;
+    private double boardingTime;
+    private double departureTime;
+
+    public Flight(TerminalSimulationCoordinator simulationCoordinator, double preparationTime, double boardingDuration) {
+        this(simulationCoordinator, simulationCoordinator.nextFlightId());
+        this.openTime = simulationCoordinator.getSimTime();
+        this.boardingTime = openTime + preparationTime;
+        this.departureTime = boardingTime + boardingDuration;
+    }
+
+    public Flight(TerminalSimulationCoordinator simulationCoordinator, TimetableEntry timetableEntry, double boardingDuration) {
+        this(simulationCoordinator, simulationCoordinator.nextFlightId());
+        this.timetableEntry = timetableEntry;
+        this.openTime = simulationCoordinator.getSimTime();
+        this.departureTime = timetableEntry.getDepartureTime();
+        this.boardingTime = departureTime - Math.min(boardingDuration, departureTime - openTime);
+    }
 
-    public Flight(TerminalSimulationCoordinator simulationCoordinator) {
+    private Flight(TerminalSimulationCoordinator simulationCoordinator, int id) {
         this.simulationCoordinator = simulationCoordinator;
-        this.id = flightIdOffset++;
-        this.passengers = ConcurrentHashMap.newKeySet();
-        this.missedPassengers = ConcurrentHashMap.newKeySet();
-        this.action = new DepartureFlightAction(simulationCoordinator, this);
-        this.executed = callDepartureFlightAction();
+        this.id = id;
+        this.passengers = new PassengerStore();
+        this.missedPassengers = new PassengerStore();
     }
 
-    private boolean callDepartureFlightAction() {
-        boolean shouldStartAction = shouldStartDepartureFlightAction(action);
+    public static Flight readSnapshot(TerminalSimulationCoordinator simulationCoordinator, ObjectInput in) throws IOException {
+        Flight flight = new Flight(simulationCoordinator, in.readInt());
+        flight.openTime = in.readDouble();
+        flight.boardingTime = in.readDouble();
+        flight.departureTime = in.readDouble();
+        flight.timetableEntry = in.readBoolean() ? TimetableEntry.readSnapshot(in) : null;
+        flight.passengers.readSnapshot(in);
+        flight.missedPassengers.readSnapshot(in);
 
-        if (shouldStartAction) {
-            action.call();
+        return flight;
+    }
+
+    public void writeSnapshot(ObjectOutput out) throws IOException {
+        out.writeInt(id);
+        out.writeDouble(openTime);
+        out.writeDouble(boardingTime);
+        out.writeDouble(departureTime);
+        out.writeBoolean(timetableEntry != null);
+
+        if (timetableEntry != null) {
+            timetableEntry.writeSnapshot(out);
         }
-        return shouldStartAction;
+        passengers.writeSnapshot(out);
+        missedPassengers.writeSnapshot(out);
     }
 
-    private boolean shouldStartDepartureFlightAction(DepartureFlightAction action) {
-        SimManager simulationManager = simulationCoordinator.simManager;
-        double timeLeft = simulationManager.getStopTime() - simulationManager.getSimTime();
-        double flightDepartureTime = action.getFlightPreparationTime() + action.getDepartureTime();
+    @Override
+    public ActionKey getKey() {
+        return DEPARTURE_FLIGHT;
+    }
+
+    @Override
+    public int getIndex() {
+        return id;
+    }
 
-        return timeLeft > flightDepartureTime;
+    @Override
+    public void fire() {
+        simulationCoordinator.departFlight(this);
     }
 
     public int getId() {
         return id;
     }
 
+    public double getOpenTime() {
+        return openTime;
+    }
+
+    public double getBoardingTime() {
+        return boardingTime;
+    }
+
+    public double getDepartureTime() {
+        return departureTime;
+    }
+
+    public Optional<TimetableEntry> getTimetableEntry() {
+        return Optional.ofNullable(timetableEntry);
+    }
+
     public void addPassenger(Passenger passenger, boolean missed) {
+        double registrationTime = simulationCoordinator.getSimTime();
+
         if (missed) {
-            this.missedPassengers.add(passenger);
+            this.missedPassengers.add(passenger, registrationTime);
         } else {
-            this.passengers.add(passenger);
+            this.passengers.add(passenger, registrationTime);
         }
     }
 
-    public Set<Passenger> getPassengers() {
+    public PassengerStore getPassengers() {
         return passengers;
     }
 
-    public Set<Passenger> getMissedPassengers() {
+    public PassengerStore getMissedPassengers() {
         return missedPassengers;
     }
 
-    public DepartureFlightAction getAction() {
-        return action;
-    }
-
-    public boolean isExecuted() {
-        return executed;
-    }
-
     @Override
     public String toString() {
         return "Flight{" +
@@ -1,35 +1,73 @@
 package com.slusarczykr.terminal.simulation.model;
 
-import java.util.UUID;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
 
 public class Passenger {
 
-    private final String uid;
+    private final long id;
     private final int flightId;
     private final double generationTime;
+    private double queuedTime;
+    private double serviceStartTime;
 
-    public Passenger(double generationTime, int flightId) {
-        this.uid = UUID.randomUUID().toString();
+    public Passenger(long id, double generationTime, int flightId) {
+        this.id = id;
         this.flightId = flightId;
         this.generationTime = generationTime;
+        this.queuedTime = generationTime;
+        this.serviceStartTime = generationTime;
     }
 
     public int getFlightId() {
         return flightId;
     }
 
-    public String getUid() {
-        return uid;
+    public long getId() {
+        return id;
     }
 
     public double getGenerationTime() {
         return generationTime;
     }
 
+    public double getQueuedTime() {
+        return queuedTime;
+    }
+
+    public void setQueuedTime(double queuedTime) {
+        this.queuedTime = queuedTime;
+    }
+
+    public double getServiceStartTime() {
+        return serviceStartTime;
+    }
+
+    public void setServiceStartTime(double serviceStartTime) {
+        this.serviceStartTime = serviceStartTime;
+    }
+
+    public void writeSnapshot(ObjectOutput out) throws IOException {
+        out.writeLong(id);
+        out.writeDouble(generationTime);
+        out.writeInt(flightId);
+        out.writeDouble(queuedTime);
+        out.writeDouble(serviceStartTime);
+    }
+
+    public static Passenger readSnapshot(ObjectInput in) throws IOException {
+        Passenger passenger = new Passenger(in.readLong(), in.readDouble(), in.readInt());
+        passenger.setQueuedTime(in.readDouble());
+        passenger.setServiceStartTime(in.readDouble());
+
+        return passenger;
+    }
+
     @Override
     public String toString() {
         return "Passenger{" +
-                "uid='" + uid + '\'' +
+                "id=" + id +
                 ", flightId=" + flightId +
                 ", generationTime=" + generationTime +
                 '}';
@@ -0,0 +1,96 @@
+package com.slusarczykr.terminal.simulation.model;
+
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.Arrays;
+
+public class PassengerStore {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private long[] ids;
+    private double[] generationTimes;
+    private double[] registrationTimes;
+    private int size;
+
+    public PassengerStore() {
+        this.ids = new long[INITIAL_CAPACITY];
+        this.generationTimes = new double[INITIAL_CAPACITY];
+        this.registrationTimes = new double[INITIAL_CAPACITY];
+    }
+
+    public synchronized void add(Passenger passenger, double registrationTime) {
+        if (size == ids.length) {
+            grow();
+        }
+        ids[size] = passenger.getId();
+        generationTimes[size] = passenger.getGenerationTime();
+        registrationTimes[size] = registrationTime;
+        size++;
+    }
+
+    private void grow() {
+        int capacity = ids.length << 1;
+        ids = Arrays.copyOf(ids, capacity);
+        generationTimes = Arrays.copyOf(generationTimes, capacity);
+        registrationTimes = Arrays.copyOf(registrationTimes, capacity);
+    }
+
+    public synchronized void clear() {
+        ids = new long[INITIAL_CAPACITY];
+        generationTimes = new double[INITIAL_CAPACITY];
+        registrationTimes = new double[INITIAL_CAPACITY];
+        size = 0;
+    }
+
+    public synchronized void writeSnapshot(ObjectOutput out) throws IOException {
+        out.writeInt(size);
+
+        for (int i = 0; i < size; i++) {
+            out.writeLong(ids[i]);
+            out.writeDouble(generationTimes[i]);
+            out.writeDouble(registrationTimes[i]);
+        }
+    }
+
+    public synchronized void readSnapshot(ObjectInput in) throws IOException {
+        int snapshotSize = in.readInt();
+        int capacity = Math.max(INITIAL_CAPACITY, Integer.highestOneBit(Math.max(snapshotSize, 1)) << 1);
+        ids = new long[capacity];
+        generationTimes = new double[capacity];
+        registrationTimes = new double[capacity];
+
+        for (int i = 0; i < snapshotSize; i++) {
+            ids[i] = in.readLong();
+            generationTimes[i] = in.readDouble();
+            registrationTimes[i] = in.readDouble();
+        }
+        size = snapshotSize;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    public synchronized long getId(int index) {
+        checkIndex(index);
+        return ids[index];
+    }
+
+    public synchronized double getGenerationTime(int index) {
+        checkIndex(index);
+        return generationTimes[index];
+    }
+
+    public synchronized double getRegistrationTime(int index) {
+        checkIndex(index);
+        return registrationTimes[index];
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(String.format("Invalid passenger index: %d, size: %d", index, size));
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.slusarczykr.terminal.simulation.random;
+
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+
+public class RandomStream {
+
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+    private static final double DOUBLE_UNIT = 0x1.0p-53;
+
+    private long seed;
+    private long gamma;
+
+    public RandomStream(long seed) {
+        this(seed, GOLDEN_GAMMA);
+    }
+
+    private RandomStream(long seed, long gamma) {
+        this.seed = seed;
+        this.gamma = gamma;
+    }
+
+    public static long deriveSeed(long seed, long index) {
+        return mix64(seed + (index + 1) * GOLDEN_GAMMA);
+    }
+
+    public RandomStream split() {
+        return new RandomStream(nextLong(), mixGamma(nextSeed()));
+    }
+
+    public long nextLong() {
+        return mix64(nextSeed());
+    }
+
+    public int nextInt() {
+        return mix32(nextSeed());
+    }
+
+    public int nextInt(int bound) {
+        if (bound <= 0) {
+            throw new IllegalArgumentException(String.format("Invalid bound value: %d! Bound must be positive", bound));
+        }
+        int result = nextInt();
+        int mask = bound - 1;
+
+        if ((bound & mask) == 0) {
+            return result & mask;
+        }
+        for (int it = result >>> 1; it + mask - (result = it % bound) < 0; it = nextInt() >>> 1) {
+        }
+        return result;
+    }
+
+    public double nextDouble() {
+        return (nextLong() >>> 11) * DOUBLE_UNIT;
+    }
+
+    public void writeSnapshot(ObjectOutput out) throws IOException {
+        out.writeLong(seed);
+        out.writeLong(gamma);
+    }
+
+    public void readSnapshot(ObjectInput in) throws IOException {
+        this.seed = in.readLong();
+        this.gamma = in.readLong();
+    }
+
+    private long nextSeed() {
+        return seed += gamma;
+    }
+
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    private static int mix32(long z) {
+        z = (z ^ (z >>> 33)) * 0x62a9d9ed799705f5L;
+        return (int) (((z ^ (z >>> 28)) * 0xcb24d0a5c88c35b3L) >>> 32);
+    }
+
+    private static long mixGamma(long z) {
+        z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+        z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        z = (z ^ (z >>> 33)) | 1L;
+        int bitTransitions = Long.bitCount(z ^ (z >>> 1));
+
+        return bitTransitions < 24 ? z ^ 0xaaaaaaaaaaaaaaaaL : z;
+    }
+}
@@ -0,0 +1,163 @@
+package com.slusarczykr.terminal.simulation.replication;
+
+import java.util.Arrays;
+
+public class ConfidenceInterval {
+
+    private static final int MAX_ITERATIONS = 200;
+    private static final double EPSILON = 1.0e-12;
+    private static final double MIN_VALUE = 1.0e-300;
+
+    private final int samples;
+    private final double mean;
+    private final double standardDeviation;
+    private final double halfWidth;
+    private final double confidenceLevel;
+
+    private ConfidenceInterval(int samples, double mean, double standardDeviation, double halfWidth, double confidenceLevel) {
+        this.samples = samples;
+        this.mean = mean;
+        this.standardDeviation = standardDeviation;
+        this.halfWidth = halfWidth;
+        this.confidenceLevel = confidenceLevel;
+    }
+
+    public static ConfidenceInterval of(double[] values, double confidenceLevel) {
+        if (confidenceLevel <= 0.0 || confidenceLevel >= 1.0) {
+            throw new IllegalArgumentException(String.format("Invalid confidence level value! Valid range: (0.00 - 1.00): %.2f", confidenceLevel));
+        }
+        int samples = values.length;
+        double mean = Arrays.stream(values).average().orElse(0.0);
+
+        if (samples < 2) {
+            return new ConfidenceInterval(samples, mean, 0.0, Double.NaN, confidenceLevel);
+        }
+        double sumOfSquares = Arrays.stream(values)
+                .map(it -> (it - mean) * (it - mean))
+                .sum();
+        double standardDeviation = Math.sqrt(sumOfSquares / (samples - 1));
+        double quantile = studentTQuantile(1.0 - (1.0 - confidenceLevel) / 2.0, samples - 1);
+        double halfWidth = quantile * standardDeviation / Math.sqrt(samples);
+
+        return new ConfidenceInterval(samples, mean, standardDeviation, halfWidth, confidenceLevel);
+    }
+
+    static double studentTQuantile(double probability, int degreesOfFreedom) {
+        double lower = 0.0;
+        double upper = 1.0;
+
+        while (studentTDistribution(upper, degreesOfFreedom) < probability) {
+            lower = upper;
+            upper *= 2.0;
+        }
+        for (int i = 0; i < MAX_ITERATIONS && upper - lower > EPSILON; i++) {
+            double middle = (lower + upper) / 2.0;
+
+            if (studentTDistribution(middle, degreesOfFreedom) < probability) {
+                lower = middle;
+            } else {
+                upper = middle;
+            }
+        }
+        return (lower + upper) / 2.0;
+    }
+
+    private static double studentTDistribution(double t, int degreesOfFreedom) {
+        double x = degreesOfFreedom / (degreesOfFreedom + t * t);
+        double tail = 0.5 * regularizedIncompleteBeta(x, degreesOfFreedom / 2.0, 0.5);
+
+        return t > 0 ? 1.0 - tail : tail;
+    }
+
+    private static double regularizedIncompleteBeta(double x, double a, double b) {
+        if (x <= 0.0) {
+            return 0.0;
+        } else if (x >= 1.0) {
+            return 1.0;
+        }
+        double front = Math.exp(logGamma(a + b) - logGamma(a) - logGamma(b) + a * Math.log(x) + b * Math.log(1.0 - x));
+
+        if (x < (a + 1.0) / (a + b + 2.0)) {
+            return front * incompleteBetaFraction(x, a, b) / a;
+        }
+        return 1.0 - front * incompleteBetaFraction(1.0 - x, b, a) / b;
+    }
+
+    private static double incompleteBetaFraction(double x, double a, double b) {
+        double c = 1.0;
+        double d = nonZero(1.0 - (a + b) * x / (a + 1.0));
+        d = 1.0 / d;
+        double fraction = d;
+
+        for (int m = 1; m <= MAX_ITERATIONS; m++) {
+            int m2 = 2 * m;
+            double numerator = m * (b - m) * x / ((a + m2 - 1.0) * (a + m2));
+            d = 1.0 / nonZero(1.0 + numerator * d);
+            c = nonZero(1.0 + numerator / c);
+            fraction *= d * c;
+
+            numerator = -(a + m) * (a + b + m) * x / ((a + m2) * (a + m2 + 1.0));
+            d = 1.0 / nonZero(1.0 + numerator * d);
+            c = nonZero(1.0 + numerator / c);
+            double delta = d * c;
+            fraction *= delta;
+
+            if (Math.abs(delta - 1.0) < EPSILON) {
+                break;
+            }
+        }
+        return fraction;
+    }
+
+    private static double nonZero(double value) {
+        return Math.abs(value) < MIN_VALUE ? MIN_VALUE : value;
+    }
+
+    private static double logGamma(double x) {
+        double[] coefficients = {76.18009172947146, -86.50532032941677, 24.01409824083091,
+                -1.231739572450155, 0.1208650973866179e-2, -0.5395239384953e-5};
+        double y = x;
+        double tmp = x + 5.5;
+        tmp -= (x + 0.5) * Math.log(tmp);
+        double series = 1.000000000190015;
+
+        for (double coefficient : coefficients) {
+            series += coefficient / ++y;
+        }
+        return -tmp + Math.log(2.5066282746310005 * series / x);
+    }
+
+    public int getSamples() {
+        return samples;
+    }
+
+    public double getMean() {
+        return mean;
+    }
+
+    public double getStandardDeviation() {
+        return standardDeviation;
+    }
+
+    public double getHalfWidth() {
+        return halfWidth;
+    }
+
+    public double getLowerBound() {
+        return mean - halfWidth;
+    }
+
+    public double getUpperBound() {
+        return mean + halfWidth;
+    }
+
+    public double getConfidenceLevel() {
+        return confidenceLevel;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%.2f ± %.2f (%.0f%% CI: %.2f - %.2f, n=%d)",
+                mean, halfWidth, confidenceLevel * 100, getLowerBound(), getUpperBound(), samples);
+    }
+}
@@ -0,0 +1,16 @@
+package com.slusarczykr.terminal.simulation.replication;
+
+public enum ReplicationMetric {
+    GENERATED_PASSENGERS,
+    GENERATED_RANDOM_EVENTS,
+    DEPARTED_FLIGHTS,
+    DEPARTED_PASSENGERS,
+    MISSED_FLIGHT_PASSENGERS,
+    REJECTED_PASSENGERS,
+    OVER_CAPACITY_INSERTS,
+    END_TO_END_TIME_P50,
+    END_TO_END_TIME_P99,
+    END_TO_END_TIME_P999,
+    CHECK_IN_UTILIZATION,
+    SECURITY_CHECK_UTILIZATION;
+}
@@ -0,0 +1,80 @@
+package com.slusarczykr.terminal.simulation.replication;
+
+import com.slusarczykr.terminal.simulation.action.ActionKey;
+import com.slusarczykr.terminal.simulation.coordinator.TerminalSimulationCoordinator;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.slusarczykr.terminal.simulation.action.ActionKey.CHECK_IN;
+import static com.slusarczykr.terminal.simulation.action.ActionKey.GENERATE_PASSENGER;
+import static com.slusarczykr.terminal.simulation.action.ActionKey.SECURITY_CHECK;
+import static com.slusarczykr.terminal.simulation.replication.ReplicationMetric.CHECK_IN_UTILIZATION;
+import static com.slusarczykr.terminal.simulation.replication.ReplicationMetric.DEPARTED_FLIGHTS;
+import static com.slusarczykr.terminal.simulation.replication.ReplicationMetric.DEPARTED_PASSENGERS;
+import static com.slusarczykr.terminal.simulation.replication.ReplicationMetric.END_TO_END_TIME_P50;
+import static com.slusarczykr.terminal.simulation.replication.ReplicationMetric.END_TO_END_TIME_P99;
+import static com.slusarczykr.terminal.simulation.replication.ReplicationMetric.END_TO_END_TIME_P999;
+import static com.slusarczykr.terminal.simulation.replication.ReplicationMetric.GENERATED_PASSENGERS;
+import static com.slusarczykr.terminal.simulation.replication.ReplicationMetric.GENERATED_RANDOM_EVENTS;
+import static com.slusarczykr.terminal.simulation.replication.ReplicationMetric.MISSED_FLIGHT_PASSENGERS;
+import static com.slusarczykr.terminal.simulation.replication.ReplicationMetric.OVER_CAPACITY_INSERTS;
+import static com.slusarczykr.terminal.simulation.replication.ReplicationMetric.REJECTED_PASSENGERS;
+import static com.slusarczykr.terminal.simulation.replication.ReplicationMetric.SECURITY_CHECK_UTILIZATION;
+
+public class ReplicationResult {
+
+    private final int replication;
+    private final long seed;
+    private final Map<ReplicationMetric, Double> metrics;
+    private final Map<ActionKey, Double> averageActionTimes;
+
+    public ReplicationResult(int replication, long seed, TerminalSimulationCoordinator simulationCoordinator, List<ActionKey> actionKeys) {
+        this.replication = replication;
+        this.seed = seed;
+        this.metrics = collectMetrics(simulationCoordinator);
+        this.averageActionTimes = collectAverageActionTimes(simulationCoordinator, actionKeys);
+    }
+
+    private Map<ReplicationMetric, Double> collectMetrics(TerminalSimulationCoordinator simulationCoordinator) {
+        Map<ReplicationMetric, Double> replicationMetrics = new EnumMap<>(ReplicationMetric.class);
+        replicationMetrics.put(GENERATED_PASSENGERS, (double) simulationCoordinator.getActionInvocations(GENERATE_PASSENGER));
+        replicationMetrics.put(GENERATED_RANDOM_EVENTS, (double) simulationCoordinator.getRandomEventActionOccurrences());
+        replicationMetrics.put(DEPARTED_FLIGHTS, (double) simulationCoordinator.getDepartedFlightsNumber());
+        replicationMetrics.put(DEPARTED_PASSENGERS, (double) simulationCoordinator.getDepartedPassengersNumber());
+        replicationMetrics.put(MISSED_FLIGHT_PASSENGERS, (double) simulationCoordinator.getMissedFlightPassengersNumber());
+        replicationMetrics.put(REJECTED_PASSENGERS, (double) simulationCoordinator.getRejectedPassengersNumber());
+        replicationMetrics.put(OVER_CAPACITY_INSERTS, (double) simulationCoordinator.getOverCapacityInserts());
+        replicationMetrics.put(END_TO_END_TIME_P50, simulationCoordinator.getEndToEndTimeStatistics().getQuantile(0.5));
+        replicationMetrics.put(END_TO_END_TIME_P99, simulationCoordinator.getEndToEndTimeStatistics().getQuantile(0.99));
+        replicationMetrics.put(END_TO_END_TIME_P999, simulationCoordinator.getEndToEndTimeStatistics().getQuantile(0.999));
+        replicationMetrics.put(CHECK_IN_UTILIZATION, simulationCoordinator.getAverageBusyFraction(CHECK_IN));
+        replicationMetrics.put(SECURITY_CHECK_UTILIZATION, simulationCoordinator.getAverageBusyFraction(SECURITY_CHECK));
+
+        return replicationMetrics;
+    }
+
+    private Map<ActionKey, Double> collectAverageActionTimes(TerminalSimulationCoordinator simulationCoordinator, List<ActionKey> actionKeys) {
+        Map<ActionKey, Double> actionTimes = new EnumMap<>(ActionKey.class);
+        actionKeys.forEach(it -> actionTimes.put(it, simulationCoordinator.getActionStatistics(it).getMean()));
+
+        return actionTimes;
+    }
+
+    public int getReplication() {
+        return replication;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public double getMetric(ReplicationMetric metric) {
+        return metrics.get(metric);
+    }
+
+    public double getAverageActionTime(ActionKey actionKey) {
+        return averageActionTimes.get(actionKey);
+    }
+}
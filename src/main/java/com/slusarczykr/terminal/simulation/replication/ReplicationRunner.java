@@ -0,0 +1,135 @@
+package com.slusarczykr.terminal.simulation.replication;
+
+import com.slusarczykr.terminal.simulation.action.ActionKey;
+import com.slusarczykr.terminal.simulation.airport.AirportConfiguration;
+import com.slusarczykr.terminal.simulation.airport.AirportSimulation;
+import com.slusarczykr.terminal.simulation.airport.ConservativeAirportSimulation;
+import com.slusarczykr.terminal.simulation.airport.OptimisticAirportSimulation;
+import com.slusarczykr.terminal.simulation.config.SimulationConfiguration;
+import com.slusarczykr.terminal.simulation.coordinator.TerminalSimulationCoordinator;
+import com.slusarczykr.terminal.simulation.engine.EngineType;
+import com.slusarczykr.terminal.simulation.random.RandomStream;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static com.slusarczykr.terminal.simulation.action.ActionKey.CHECK_IN;
+import static com.slusarczykr.terminal.simulation.action.ActionKey.DEPARTURE_FLIGHT;
+import static com.slusarczykr.terminal.simulation.action.ActionKey.GENERATE_PASSENGER;
+import static com.slusarczykr.terminal.simulation.action.ActionKey.RANDOM;
+import static com.slusarczykr.terminal.simulation.action.ActionKey.SECURITY_CHECK;
+
+public class ReplicationRunner {
+
+    private static final Logger log = LogManager.getLogger(ReplicationRunner.class);
+
+    private static final Object COORDINATOR_CREATION_LOCK = new Object();
+    private static final double DEFAULT_CONFIDENCE_LEVEL = 0.95;
+    private static final List<ActionKey> MEASURED_ACTIONS = Arrays.asList(GENERATE_PASSENGER, CHECK_IN, SECURITY_CHECK, DEPARTURE_FLIGHT, RANDOM);
+
+    private final SimulationConfiguration simulationConfig;
+    private final int parallelism;
+    private final double confidenceLevel;
+
+    public ReplicationRunner(SimulationConfiguration simulationConfig) {
+        this(simulationConfig, Runtime.getRuntime().availableProcessors(), DEFAULT_CONFIDENCE_LEVEL);
+    }
+
+    public ReplicationRunner(SimulationConfiguration simulationConfig, int parallelism, double confidenceLevel) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException(String.format("Invalid parallelism value: %d!", parallelism));
+        }
+        this.simulationConfig = simulationConfig;
+        this.parallelism = parallelism;
+        this.confidenceLevel = confidenceLevel;
+    }
+
+    public ReplicationSummary run(int replications) {
+        if (replications < 1) {
+            throw new IllegalArgumentException(String.format("Invalid replications number: %d!", replications));
+        }
+        int threads = getThreadsNumber(replications);
+        long seed = simulationConfig.getSeed();
+        log.info("Starting {} simulation replications with seed: {} using {} threads", replications, seed, threads);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<ReplicationResult>> futures = IntStream.range(0, replications)
+                    .mapToObj(it -> executor.submit(() -> runReplication(it, RandomStream.deriveSeed(seed, it))))
+                    .collect(Collectors.toList());
+
+            return new ReplicationSummary(collectResults(futures), MEASURED_ACTIONS, confidenceLevel);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private int getThreadsNumber(int replications) {
+        if (simulationConfig.getEngineType() == EngineType.DESKIT) {
+            log.warn("'{}' engine shares a single simulation clock, replications will be executed sequentially", EngineType.DESKIT);
+            return 1;
+        }
+        return Math.min(parallelism, replications);
+    }
+
+    private ReplicationResult runReplication(int replication, long seed) {
+        TerminalSimulationCoordinator simulationCoordinator = createSimulationCoordinator(seed);
+        simulationCoordinator.startSimulation();
+        log.debug("Simulation replication: '{}' with seed: {} finished", replication, seed);
+
+        return new ReplicationResult(replication, seed, simulationCoordinator, MEASURED_ACTIONS);
+    }
+
+    private TerminalSimulationCoordinator createSimulationCoordinator(long seed) {
+        synchronized (COORDINATOR_CREATION_LOCK) {
+            return new TerminalSimulationCoordinator(simulationConfig, seed);
+        }
+    }
+
+    public ReplicationSummary runAirport(AirportConfiguration airportConfig) {
+        long seed = simulationConfig.getSeed();
+        AirportSimulation airportSimulation;
+
+        synchronized (COORDINATOR_CREATION_LOCK) {
+            airportSimulation = createAirportSimulation(airportConfig, seed);
+        }
+        airportSimulation.run();
+        List<ReplicationResult> results = airportSimulation.getTerminals().stream()
+                .map(it -> new ReplicationResult(it.getIndex(), it.getSimulationCoordinator().getSeed(), it.getSimulationCoordinator(), MEASURED_ACTIONS))
+                .collect(Collectors.toList());
+
+        return new ReplicationSummary(results, MEASURED_ACTIONS, confidenceLevel);
+    }
+
+    private AirportSimulation createAirportSimulation(AirportConfiguration airportConfig, long seed) {
+        switch (airportConfig.getSynchronizationMode()) {
+            case OPTIMISTIC:
+                return new OptimisticAirportSimulation(simulationConfig, airportConfig, seed);
+            default:
+                return new ConservativeAirportSimulation(simulationConfig, airportConfig, seed);
+        }
+    }
+
+    private List<ReplicationResult> collectResults(List<Future<ReplicationResult>> futures) {
+        List<ReplicationResult> results = new ArrayList<>(futures.size());
+        try {
+            for (Future<ReplicationResult> future : futures) {
+                results.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Simulation replications interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Simulation replication failed", e.getCause());
+        }
+        return results;
+    }
+}
@@ -0,0 +1,64 @@
+package com.slusarczykr.terminal.simulation.replication;
+
+import com.slusarczykr.terminal.simulation.action.ActionKey;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToDoubleFunction;
+
+public class ReplicationSummary {
+
+    private final List<ReplicationResult> results;
+    private final double confidenceLevel;
+    private final Map<ReplicationMetric, ConfidenceInterval> metrics;
+    private final Map<ActionKey, ConfidenceInterval> averageActionTimes;
+
+    public ReplicationSummary(List<ReplicationResult> results, List<ActionKey> actionKeys, double confidenceLevel) {
+        this.results = Collections.unmodifiableList(results);
+        this.confidenceLevel = confidenceLevel;
+        this.metrics = new EnumMap<>(ReplicationMetric.class);
+        this.averageActionTimes = new EnumMap<>(ActionKey.class);
+
+        for (ReplicationMetric metric : ReplicationMetric.values()) {
+            metrics.put(metric, merge(it -> it.getMetric(metric)));
+        }
+        actionKeys.forEach(actionKey -> averageActionTimes.put(actionKey, merge(it -> it.getAverageActionTime(actionKey))));
+    }
+
+    private ConfidenceInterval merge(ToDoubleFunction<ReplicationResult> valueExtractor) {
+        double[] values = results.stream()
+                .mapToDouble(valueExtractor)
+                .toArray();
+        return ConfidenceInterval.of(values, confidenceLevel);
+    }
+
+    public List<ReplicationResult> getResults() {
+        return results;
+    }
+
+    public int getReplications() {
+        return results.size();
+    }
+
+    public double getConfidenceLevel() {
+        return confidenceLevel;
+    }
+
+    public Map<ReplicationMetric, ConfidenceInterval> getMetrics() {
+        return Collections.unmodifiableMap(metrics);
+    }
+
+    public ConfidenceInterval getMetric(ReplicationMetric metric) {
+        return metrics.get(metric);
+    }
+
+    public Map<ActionKey, ConfidenceInterval> getAverageActionTimes() {
+        return Collections.unmodifiableMap(averageActionTimes);
+    }
+
+    public ConfidenceInterval getAverageActionTime(ActionKey actionKey) {
+        return averageActionTimes.get(actionKey);
+    }
+}
@@ -0,0 +1,23 @@
+package com.slusarczykr.terminal.simulation.routing;
+
+import com.slusarczykr.terminal.simulation.action.Action;
+import com.slusarczykr.terminal.simulation.action.queue.ActionQueue;
+
+import java.util.List;
+
+public abstract class AbstractRoutingStrategy<T> implements RoutingStrategy<T> {
+
+    protected final List<Action<T>> actionInstances;
+
+    protected AbstractRoutingStrategy(List<Action<T>> actionInstances) {
+        if (actionInstances == null || actionInstances.isEmpty()) {
+            throw new IllegalArgumentException("Routing strategy requires at least one action instance");
+        }
+        this.actionInstances = actionInstances;
+    }
+
+    protected int getLoad(Action<T> action) {
+        ActionQueue<T> actionQueue = action.getQueue();
+        return actionQueue != null ? actionQueue.getLoad() : 0;
+    }
+}
@@ -0,0 +1,80 @@
+package com.slusarczykr.terminal.simulation.routing;
+
+class IndexedMinHeap {
+
+    private final int[] heap;
+    private final int[] positions;
+    private final int[] keys;
+
+    IndexedMinHeap(int size) {
+        this.heap = new int[size];
+        this.positions = new int[size];
+        this.keys = new int[size];
+
+        for (int i = 0; i < size; i++) {
+            heap[i] = i;
+            positions[i] = i;
+        }
+    }
+
+    synchronized int peek() {
+        return heap[0];
+    }
+
+    synchronized void update(int index, int key) {
+        int previousKey = keys[index];
+        keys[index] = key;
+
+        if (key < previousKey) {
+            siftUp(positions[index]);
+        } else if (key > previousKey) {
+            siftDown(positions[index]);
+        }
+    }
+
+    private void siftUp(int position) {
+        while (position > 0) {
+            int parent = (position - 1) / 2;
+
+            if (!less(heap[position], heap[parent])) {
+                break;
+            }
+            swap(position, parent);
+            position = parent;
+        }
+    }
+
+    private void siftDown(int position) {
+        while (true) {
+            int left = 2 * position + 1;
+            int right = left + 1;
+            int smallest = position;
+
+            if (left < heap.length && less(heap[left], heap[smallest])) {
+                smallest = left;
+            }
+            if (right < heap.length && less(heap[right], heap[smallest])) {
+                smallest = right;
+            }
+            if (smallest == position) {
+                break;
+            }
+            swap(position, smallest);
+            position = smallest;
+        }
+    }
+
+    private boolean less(int firstIndex, int secondIndex) {
+        return keys[firstIndex] < keys[secondIndex]
+                || (keys[firstIndex] == keys[secondIndex] && firstIndex < secondIndex);
+    }
+
+    private void swap(int firstPosition, int secondPosition) {
+        int firstIndex = heap[firstPosition];
+        int secondIndex = heap[secondPosition];
+        heap[firstPosition] = secondIndex;
+        heap[secondPosition] = firstIndex;
+        positions[secondIndex] = firstPosition;
+        positions[firstIndex] = secondPosition;
+    }
+}
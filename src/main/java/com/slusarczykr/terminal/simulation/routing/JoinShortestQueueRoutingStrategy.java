@@ -0,0 +1,39 @@
+package com.slusarczykr.terminal.simulation.routing;
+
+import com.slusarczykr.terminal.simulation.action.Action;
+import com.slusarczykr.terminal.simulation.action.queue.ActionQueue;
+
+import java.util.List;
+
+public class JoinShortestQueueRoutingStrategy<T> extends AbstractRoutingStrategy<T> {
+
+    private final IndexedMinHeap loads;
+
+    public JoinShortestQueueRoutingStrategy(List<Action<T>> actionInstances) {
+        super(actionInstances);
+        this.loads = new IndexedMinHeap(actionInstances.size());
+        registerLoadListeners();
+    }
+
+    private void registerLoadListeners() {
+        for (int i = 0; i < actionInstances.size(); i++) {
+            int actionIndex = i;
+            ActionQueue<T> actionQueue = actionInstances.get(actionIndex).getQueue();
+
+            if (actionQueue != null) {
+                actionQueue.addLoadListener(it -> loads.update(actionIndex, it.getLoad()));
+                loads.update(actionIndex, actionQueue.getLoad());
+            }
+        }
+    }
+
+    @Override
+    public RoutingStrategyType getType() {
+        return RoutingStrategyType.JOIN_SHORTEST_QUEUE;
+    }
+
+    @Override
+    public Action<T> route() {
+        return actionInstances.get(loads.peek());
+    }
+}
@@ -0,0 +1,42 @@
+package com.slusarczykr.terminal.simulation.routing;
+
+import com.slusarczykr.terminal.simulation.action.Action;
+import com.slusarczykr.terminal.simulation.statistics.StatisticsAccumulator;
+
+import java.util.List;
+
+public class LeastExpectedWorkRoutingStrategy<T> extends AbstractRoutingStrategy<T> {
+
+    public LeastExpectedWorkRoutingStrategy(List<Action<T>> actionInstances) {
+        super(actionInstances);
+    }
+
+    @Override
+    public RoutingStrategyType getType() {
+        return RoutingStrategyType.LEAST_EXPECTED_WORK;
+    }
+
+    @Override
+    public Action<T> route() {
+        Action<T> selectedAction = actionInstances.get(0);
+        double lowestExpectedWork = getExpectedWork(selectedAction);
+
+        for (int i = 1; i < actionInstances.size(); i++) {
+            Action<T> action = actionInstances.get(i);
+            double expectedWork = getExpectedWork(action);
+
+            if (expectedWork < lowestExpectedWork) {
+                selectedAction = action;
+                lowestExpectedWork = expectedWork;
+            }
+        }
+        return selectedAction;
+    }
+
+    private double getExpectedWork(Action<T> action) {
+        StatisticsAccumulator actionStatistics = action.getActionStatistics();
+        double meanServiceTime = actionStatistics.getCount() > 0 ? actionStatistics.getMean() : 1.0;
+
+        return getLoad(action) * meanServiceTime;
+    }
+}
@@ -0,0 +1,36 @@
+package com.slusarczykr.terminal.simulation.routing;
+
+import com.slusarczykr.terminal.simulation.action.Action;
+import com.slusarczykr.terminal.simulation.random.RandomStream;
+
+import java.util.List;
+
+public class PowerOfTwoChoicesRoutingStrategy<T> extends AbstractRoutingStrategy<T> {
+
+    private final RandomStream random;
+
+    public PowerOfTwoChoicesRoutingStrategy(List<Action<T>> actionInstances, RandomStream random) {
+        super(actionInstances);
+        this.random = random;
+    }
+
+    @Override
+    public RoutingStrategyType getType() {
+        return RoutingStrategyType.POWER_OF_TWO_CHOICES;
+    }
+
+    @Override
+    public Action<T> route() {
+        int instances = actionInstances.size();
+
+        if (instances == 1) {
+            return actionInstances.get(0);
+        }
+        int firstIndex = random.nextInt(instances);
+        int secondIndex = (firstIndex + 1 + random.nextInt(instances - 1)) % instances;
+        Action<T> firstAction = actionInstances.get(firstIndex);
+        Action<T> secondAction = actionInstances.get(secondIndex);
+
+        return getLoad(secondAction) < getLoad(firstAction) ? secondAction : firstAction;
+    }
+}
@@ -0,0 +1,27 @@
+package com.slusarczykr.terminal.simulation.routing;
+
+import com.slusarczykr.terminal.simulation.action.Action;
+import com.slusarczykr.terminal.simulation.random.RandomStream;
+
+import java.util.List;
+
+public class RandomRoutingStrategy<T> extends AbstractRoutingStrategy<T> {
+
+    private final RandomStream random;
+
+    public RandomRoutingStrategy(List<Action<T>> actionInstances, RandomStream random) {
+        super(actionInstances);
+        this.random = random;
+    }
+
+    @Override
+    public RoutingStrategyType getType() {
+        return RoutingStrategyType.RANDOM;
+    }
+
+    @Override
+    public Action<T> route() {
+        int actionIndex = random.nextInt(actionInstances.size());
+        return actionInstances.get(actionIndex);
+    }
+}
@@ -0,0 +1,37 @@
+package com.slusarczykr.terminal.simulation.routing;
+
+import com.slusarczykr.terminal.simulation.action.Action;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class RoundRobinRoutingStrategy<T> extends AbstractRoutingStrategy<T> {
+
+    private final AtomicInteger nextActionIndex;
+
+    public RoundRobinRoutingStrategy(List<Action<T>> actionInstances) {
+        super(actionInstances);
+        this.nextActionIndex = new AtomicInteger();
+    }
+
+    @Override
+    public RoutingStrategyType getType() {
+        return RoutingStrategyType.ROUND_ROBIN;
+    }
+
+    @Override
+    public Action<T> route() {
+        int actionIndex = nextActionIndex.getAndUpdate(it -> (it + 1) % actionInstances.size());
+        return actionInstances.get(actionIndex);
+    }
+
+    @Override
+    public int getCursor() {
+        return nextActionIndex.get();
+    }
+
+    @Override
+    public void setCursor(int cursor) {
+        nextActionIndex.set(Math.floorMod(cursor, actionInstances.size()));
+    }
+}
@@ -0,0 +1,17 @@
+package com.slusarczykr.terminal.simulation.routing;
+
+import com.slusarczykr.terminal.simulation.action.Action;
+
+public interface RoutingStrategy<T> {
+
+    RoutingStrategyType getType();
+
+    Action<T> route();
+
+    default int getCursor() {
+        return 0;
+    }
+
+    default void setCursor(int cursor) {
+    }
+}
@@ -0,0 +1,9 @@
+package com.slusarczykr.terminal.simulation.routing;
+
+public enum RoutingStrategyType {
+    RANDOM,
+    ROUND_ROBIN,
+    JOIN_SHORTEST_QUEUE,
+    POWER_OF_TWO_CHOICES,
+    LEAST_EXPECTED_WORK;
+}
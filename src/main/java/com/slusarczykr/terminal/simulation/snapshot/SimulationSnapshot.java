@@ -0,0 +1,66 @@
+package com.slusarczykr.terminal.simulation.snapshot;
+
+import deskit.random.SimGenerator;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidObjectException;
+import java.io.ObjectInput;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutput;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+
+public final class SimulationSnapshot {
+
+    public static final int MAGIC = 0x54534E50;
+    public static final int VERSION = 4;
+
+    private static final ObjectInputFilter GENERATOR_FILTER =
+            ObjectInputFilter.Config.createFilter("deskit.random.SimGenerator;java.util.Random;maxdepth=2;!*");
+
+    private SimulationSnapshot() {
+    }
+
+    public static ObjectOutputStream createOutput(OutputStream outputStream) throws IOException {
+        ObjectOutputStream out = new ObjectOutputStream(new BufferedOutputStream(outputStream));
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+
+        return out;
+    }
+
+    public static ObjectInputStream createInput(InputStream inputStream) throws IOException {
+        ObjectInputStream in = new ObjectInputStream(new BufferedInputStream(inputStream));
+        in.setObjectInputFilter(GENERATOR_FILTER);
+        int magic = in.readInt();
+        int version = in.readInt();
+
+        if (magic != MAGIC || version != VERSION) {
+            throw new InvalidObjectException(String.format("Invalid simulation snapshot! Magic: %x, version: %d", magic, version));
+        }
+        return in;
+    }
+
+    public static void writeGenerator(ObjectOutput out, SimGenerator generator) throws IOException {
+        out.writeObject(generator);
+    }
+
+    public static SimGenerator readGenerator(ObjectInput in) throws IOException {
+        try {
+            return (SimGenerator) in.readObject();
+        } catch (ClassNotFoundException | ClassCastException e) {
+            throw new InvalidObjectException(String.format("Invalid simulation snapshot generator: %s", e.getMessage()));
+        }
+    }
+
+    public static void checkValue(String name, long expected, long actual) throws InvalidObjectException {
+        if (expected != actual) {
+            throw new InvalidObjectException(String.format("Simulation snapshot does not match the configuration! %s: %d, expected: %d",
+                    name, actual, expected));
+        }
+    }
+}
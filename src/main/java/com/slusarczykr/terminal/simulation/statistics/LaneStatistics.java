@@ -0,0 +1,55 @@
+package com.slusarczykr.terminal.simulation.statistics;
+
+import com.slusarczykr.terminal.simulation.action.ActionKey;
+import com.slusarczykr.terminal.simulation.time.SimulationTime;
+
+public class LaneStatistics {
+
+    private final ActionKey actionKey;
+    private final int index;
+    private final double averageQueueLength;
+    private final double maxQueueLength;
+    private final double busyFraction;
+    private final long servedElements;
+    private final double throughput;
+
+    public LaneStatistics(ActionKey actionKey, int index, TimeWeightedAccumulator lengthStatistics,
+                          TimeWeightedAccumulator busyStatistics, long servedElements, double simTime) {
+        this.actionKey = actionKey;
+        this.index = index;
+        this.averageQueueLength = lengthStatistics.getAverage(simTime);
+        this.maxQueueLength = lengthStatistics.getMax();
+        this.busyFraction = busyStatistics.getAverage(simTime);
+        this.servedElements = servedElements;
+        double simTimeInSeconds = SimulationTime.toSeconds(simTime);
+        this.throughput = simTimeInSeconds > 0 ? servedElements / simTimeInSeconds : 0.0;
+    }
+
+    public ActionKey getActionKey() {
+        return actionKey;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public double getAverageQueueLength() {
+        return averageQueueLength;
+    }
+
+    public double getMaxQueueLength() {
+        return maxQueueLength;
+    }
+
+    public double getBusyFraction() {
+        return busyFraction;
+    }
+
+    public long getServedElements() {
+        return servedElements;
+    }
+
+    public double getThroughput() {
+        return throughput;
+    }
+}
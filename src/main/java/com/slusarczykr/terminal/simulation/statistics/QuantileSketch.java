@@ -0,0 +1,146 @@
+package com.slusarczykr.terminal.simulation.statistics;
+
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.Arrays;
+
+public class QuantileSketch {
+
+    private static final double RELATIVE_ACCURACY = 0.01;
+    private static final double GAMMA = (1 + RELATIVE_ACCURACY) / (1 - RELATIVE_ACCURACY);
+    private static final double LOG_GAMMA = Math.log(GAMMA);
+    private static final int MAX_BUCKETS = 2048;
+    private static final int INITIAL_BUCKETS = 64;
+    private static final int INDEX_OFFSET = MAX_BUCKETS / 2;
+    private static final double MIN_INDEXABLE_VALUE = Math.pow(GAMMA, -INDEX_OFFSET);
+
+    private long[] counts;
+    private int bucketOffset;
+    private int minBucket;
+    private int maxBucket;
+    private long zeroCount;
+    private long count;
+
+    public void add(double value) {
+        if (value < MIN_INDEXABLE_VALUE) {
+            zeroCount++;
+        } else {
+            int bucket = toBucket(value);
+            ensureBuckets(bucket, bucket);
+            counts[bucket - bucketOffset]++;
+        }
+        count++;
+    }
+
+    private void ensureBuckets(int fromBucket, int toBucket) {
+        if (counts == null) {
+            int length = Math.max(INITIAL_BUCKETS, toBucket - fromBucket + 1);
+            bucketOffset = Math.max(0, Math.min(MAX_BUCKETS - length, fromBucket - (length - (toBucket - fromBucket + 1)) / 2));
+            counts = new long[length];
+            minBucket = fromBucket;
+            maxBucket = toBucket;
+            return;
+        }
+        int newMinBucket = Math.min(minBucket, fromBucket);
+        int newMaxBucket = Math.max(maxBucket, toBucket);
+
+        if (newMinBucket < bucketOffset || newMaxBucket >= bucketOffset + counts.length) {
+            int occupiedBuckets = newMaxBucket - newMinBucket + 1;
+            int length = Math.min(MAX_BUCKETS, Math.max(counts.length * 2, occupiedBuckets));
+            int offset = Math.max(0, Math.min(MAX_BUCKETS - length, newMinBucket - (length - occupiedBuckets) / 2));
+            long[] resizedCounts = new long[length];
+            System.arraycopy(counts, minBucket - bucketOffset, resizedCounts, minBucket - offset, maxBucket - minBucket + 1);
+            counts = resizedCounts;
+            bucketOffset = offset;
+        }
+        minBucket = newMinBucket;
+        maxBucket = newMaxBucket;
+    }
+
+    private int toBucket(double value) {
+        int index = (int) Math.ceil(Math.log(value) / LOG_GAMMA) + INDEX_OFFSET;
+        return Math.max(0, Math.min(MAX_BUCKETS - 1, index));
+    }
+
+    private double toValue(int bucket) {
+        return 2 * Math.pow(GAMMA, bucket - INDEX_OFFSET) / (GAMMA + 1);
+    }
+
+    public double getQuantile(double quantile) {
+        if (quantile < 0.0 || quantile > 1.0) {
+            throw new IllegalArgumentException(String.format("Invalid quantile value! Valid range: 0.00 - 1.00: %.2f", quantile));
+        }
+        if (count == 0) {
+            return 0.0;
+        }
+        long rank = (long) Math.floor(quantile * (count - 1));
+        long accumulatedCount = zeroCount;
+
+        if (rank < accumulatedCount || counts == null) {
+            return 0.0;
+        }
+        for (int bucket = minBucket; bucket <= maxBucket; bucket++) {
+            accumulatedCount += counts[bucket - bucketOffset];
+
+            if (rank < accumulatedCount) {
+                return toValue(bucket);
+            }
+        }
+        return toValue(maxBucket);
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public void merge(QuantileSketch other) {
+        if (other.counts != null) {
+            ensureBuckets(other.minBucket, other.maxBucket);
+
+            for (int bucket = other.minBucket; bucket <= other.maxBucket; bucket++) {
+                counts[bucket - bucketOffset] += other.counts[bucket - other.bucketOffset];
+            }
+        }
+        zeroCount += other.zeroCount;
+        count += other.count;
+    }
+
+    public void writeSnapshot(ObjectOutput out) throws IOException {
+        out.writeLong(zeroCount);
+        out.writeLong(count);
+        out.writeInt(counts != null ? (int) Arrays.stream(counts).filter(it -> it > 0).count() : 0);
+
+        for (int bucket = minBucket; counts != null && bucket <= maxBucket; bucket++) {
+            if (counts[bucket - bucketOffset] > 0) {
+                out.writeShort(bucket);
+                out.writeLong(counts[bucket - bucketOffset]);
+            }
+        }
+    }
+
+    public void readSnapshot(ObjectInput in) throws IOException {
+        zeroCount = in.readLong();
+        count = in.readLong();
+        int buckets = in.readInt();
+        counts = null;
+
+        for (int i = 0; i < buckets; i++) {
+            int bucket = in.readShort();
+            ensureBuckets(bucket, bucket);
+            counts[bucket - bucketOffset] = in.readLong();
+        }
+    }
+
+    public QuantileSketch copy() {
+        QuantileSketch sketch = new QuantileSketch();
+        sketch.counts = counts != null ? Arrays.copyOf(counts, counts.length) : null;
+        sketch.bucketOffset = bucketOffset;
+        sketch.minBucket = minBucket;
+        sketch.maxBucket = maxBucket;
+        sketch.zeroCount = zeroCount;
+        sketch.count = count;
+
+        return sketch;
+    }
+}
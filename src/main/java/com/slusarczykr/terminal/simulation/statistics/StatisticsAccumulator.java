@@ -0,0 +1,118 @@
+package com.slusarczykr.terminal.simulation.statistics;
+
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.Collection;
+
+public class StatisticsAccumulator {
+
+    private long count;
+    private double mean;
+    private double sumOfSquaredDeviations;
+    private double min;
+    private double max;
+    private final QuantileSketch sketch;
+
+    public StatisticsAccumulator() {
+        this(new QuantileSketch());
+    }
+
+    private StatisticsAccumulator(QuantileSketch sketch) {
+        this.min = Double.POSITIVE_INFINITY;
+        this.max = Double.NEGATIVE_INFINITY;
+        this.sketch = sketch;
+    }
+
+    public static StatisticsAccumulator merge(Collection<StatisticsAccumulator> accumulators) {
+        StatisticsAccumulator mergedAccumulator = new StatisticsAccumulator();
+        accumulators.forEach(mergedAccumulator::merge);
+
+        return mergedAccumulator;
+    }
+
+    public synchronized void add(double value) {
+        count++;
+        double delta = value - mean;
+        mean += delta / count;
+        sumOfSquaredDeviations += delta * (value - mean);
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+        sketch.add(value);
+    }
+
+    public void merge(StatisticsAccumulator other) {
+        StatisticsAccumulator otherCopy = other.copy();
+
+        synchronized (this) {
+            if (otherCopy.count == 0) {
+                return;
+            }
+            long mergedCount = count + otherCopy.count;
+            double delta = otherCopy.mean - mean;
+            mean += delta * otherCopy.count / mergedCount;
+            sumOfSquaredDeviations += otherCopy.sumOfSquaredDeviations + delta * delta * count * otherCopy.count / mergedCount;
+            count = mergedCount;
+            min = Math.min(min, otherCopy.min);
+            max = Math.max(max, otherCopy.max);
+            sketch.merge(otherCopy.sketch);
+        }
+    }
+
+    public synchronized StatisticsAccumulator copy() {
+        StatisticsAccumulator accumulator = new StatisticsAccumulator(sketch.copy());
+        accumulator.count = count;
+        accumulator.mean = mean;
+        accumulator.sumOfSquaredDeviations = sumOfSquaredDeviations;
+        accumulator.min = min;
+        accumulator.max = max;
+
+        return accumulator;
+    }
+
+    public synchronized void writeSnapshot(ObjectOutput out) throws IOException {
+        out.writeLong(count);
+        out.writeDouble(mean);
+        out.writeDouble(sumOfSquaredDeviations);
+        out.writeDouble(min);
+        out.writeDouble(max);
+        sketch.writeSnapshot(out);
+    }
+
+    public synchronized void readSnapshot(ObjectInput in) throws IOException {
+        count = in.readLong();
+        mean = in.readDouble();
+        sumOfSquaredDeviations = in.readDouble();
+        min = in.readDouble();
+        max = in.readDouble();
+        sketch.readSnapshot(in);
+    }
+
+    public synchronized long getCount() {
+        return count;
+    }
+
+    public synchronized double getMean() {
+        return mean;
+    }
+
+    public synchronized double getVariance() {
+        return count > 1 ? sumOfSquaredDeviations / (count - 1) : 0.0;
+    }
+
+    public double getStandardDeviation() {
+        return Math.sqrt(getVariance());
+    }
+
+    public synchronized double getMin() {
+        return count > 0 ? min : 0.0;
+    }
+
+    public synchronized double getMax() {
+        return count > 0 ? max : 0.0;
+    }
+
+    public synchronized double getQuantile(double quantile) {
+        return sketch.getQuantile(quantile);
+    }
+}
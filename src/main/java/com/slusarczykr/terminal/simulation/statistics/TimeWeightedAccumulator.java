@@ -0,0 +1,71 @@
+package com.slusarczykr.terminal.simulation.statistics;
+
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+
+public class TimeWeightedAccumulator {
+
+    private double startTime;
+    private double lastTime;
+    private double lastValue;
+    private double area;
+    private double max;
+    private long updates;
+
+    public TimeWeightedAccumulator(double startTime, double initialValue) {
+        this.startTime = startTime;
+        this.lastTime = startTime;
+        this.lastValue = initialValue;
+        this.max = initialValue;
+    }
+
+    public synchronized void update(double time, double value) {
+        if (time > lastTime) {
+            area += lastValue * (time - lastTime);
+            lastTime = time;
+        }
+        lastValue = value;
+        max = Math.max(max, value);
+        updates++;
+    }
+
+    public synchronized void writeSnapshot(ObjectOutput out) throws IOException {
+        out.writeDouble(startTime);
+        out.writeDouble(lastTime);
+        out.writeDouble(lastValue);
+        out.writeDouble(area);
+        out.writeDouble(max);
+        out.writeLong(updates);
+    }
+
+    public synchronized void readSnapshot(ObjectInput in) throws IOException {
+        startTime = in.readDouble();
+        lastTime = in.readDouble();
+        lastValue = in.readDouble();
+        area = in.readDouble();
+        max = in.readDouble();
+        updates = in.readLong();
+    }
+
+    public synchronized double getAverage(double time) {
+        double duration = time - startTime;
+
+        if (duration <= 0) {
+            return lastValue;
+        }
+        return (area + lastValue * Math.max(0.0, time - lastTime)) / duration;
+    }
+
+    public synchronized double getMax() {
+        return max;
+    }
+
+    public synchronized double getCurrent() {
+        return lastValue;
+    }
+
+    public synchronized long getUpdates() {
+        return updates;
+    }
+}
@@ -0,0 +1,44 @@
+package com.slusarczykr.terminal.simulation.time;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+
+public final class SimulationTime {
+
+    public static final ChronoUnit UNIT = ChronoUnit.MILLIS;
+
+    private static final double NANOS_PER_UNIT = UNIT.getDuration().toNanos();
+    private static final long SECONDS_PER_DAY = Duration.ofDays(1).getSeconds();
+
+    private SimulationTime() {
+    }
+
+    public static double of(Duration duration) {
+        return duration.getSeconds() * (1_000_000_000.0 / NANOS_PER_UNIT) + duration.getNano() / NANOS_PER_UNIT;
+    }
+
+    public static double ofSeconds(double seconds) {
+        return seconds * 1_000_000_000.0 / NANOS_PER_UNIT;
+    }
+
+    public static double toSeconds(double simulationTime) {
+        return simulationTime * NANOS_PER_UNIT / 1_000_000_000.0;
+    }
+
+    public static Duration toDuration(double simulationTime) {
+        return Duration.ofNanos(Math.round(simulationTime * NANOS_PER_UNIT));
+    }
+
+    public static double round(double simulationTime) {
+        return Math.round(simulationTime * 100.0) / 100.0;
+    }
+
+    public static String format(double simulationTime) {
+        Duration duration = toDuration(simulationTime);
+        long days = duration.getSeconds() / SECONDS_PER_DAY;
+        String time = String.format("%02d:%02d:%02d.%03d",
+                duration.toHoursPart(), duration.toMinutesPart(), duration.toSecondsPart(), duration.toMillisPart());
+
+        return days > 0 ? String.format("%dd %s", days, time) : time;
+    }
+}
@@ -0,0 +1,103 @@
+package com.slusarczykr.terminal.simulation.timetable;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+public class Timetable {
+
+    private static final Comparator<TimetableEntry> DEPARTURE_TIME_ORDER = Comparator.comparingDouble(TimetableEntry::getDepartureTime);
+
+    private final TimetableEntry[] entries;
+    private int cursor;
+
+    private Timetable(List<TimetableEntry> entries) {
+        this.entries = entries.toArray(new TimetableEntry[0]);
+    }
+
+    public static Timetable load(Path timetableFile) {
+        try (Reader reader = Files.newBufferedReader(timetableFile, StandardCharsets.UTF_8)) {
+            return read(reader);
+        } catch (IOException e) {
+            throw new UncheckedIOException(String.format("Unable to read timetable file: '%s'", timetableFile), e);
+        }
+    }
+
+    public static Timetable read(Reader reader) throws IOException {
+        TimetableReader timetableReader = new TimetableReader(reader);
+        List<TimetableEntry> entries = new ArrayList<>();
+        boolean sorted = true;
+        TimetableEntry entry;
+
+        while ((entry = timetableReader.next()) != null) {
+            if (!entries.isEmpty() && entry.getDepartureTime() < entries.get(entries.size() - 1).getDepartureTime()) {
+                sorted = false;
+            }
+            entries.add(entry);
+        }
+        if (!sorted) {
+            entries.sort(DEPARTURE_TIME_ORDER);
+        }
+        return new Timetable(entries);
+    }
+
+    public int indexOf(double departureTime) {
+        int low = 0;
+        int high = entries.length;
+
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+
+            if (entries[middle].getDepartureTime() <= departureTime) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    public boolean hasNext() {
+        return cursor < entries.length;
+    }
+
+    public TimetableEntry peek() {
+        return hasNext() ? entries[cursor] : null;
+    }
+
+    public TimetableEntry next() {
+        if (!hasNext()) {
+            throw new IllegalStateException("Timetable has no more flights");
+        }
+        return entries[cursor++];
+    }
+
+    public void skipDepartedFlights(double time) {
+        cursor = Math.max(cursor, indexOf(time));
+    }
+
+    public int getCursor() {
+        return cursor;
+    }
+
+    public void setCursor(int cursor) {
+        if (cursor < 0 || cursor > entries.length) {
+            throw new IllegalArgumentException(String.format("Invalid timetable cursor: %d! Valid range: 0 - %d", cursor, entries.length));
+        }
+        this.cursor = cursor;
+    }
+
+    public int size() {
+        return entries.length;
+    }
+
+    public int getRemainingFlights() {
+        return entries.length - cursor;
+    }
+}
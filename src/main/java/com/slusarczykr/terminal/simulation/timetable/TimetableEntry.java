@@ -0,0 +1,57 @@
+package com.slusarczykr.terminal.simulation.timetable;
+
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+
+public class TimetableEntry {
+
+    private final String flightNumber;
+    private final double departureTime;
+    private final int capacity;
+    private final String gate;
+
+    public TimetableEntry(String flightNumber, double departureTime, int capacity, String gate) {
+        this.flightNumber = flightNumber;
+        this.departureTime = departureTime;
+        this.capacity = capacity;
+        this.gate = gate;
+    }
+
+    public String getFlightNumber() {
+        return flightNumber;
+    }
+
+    public double getDepartureTime() {
+        return departureTime;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public String getGate() {
+        return gate;
+    }
+
+    public void writeSnapshot(ObjectOutput out) throws IOException {
+        out.writeUTF(flightNumber);
+        out.writeDouble(departureTime);
+        out.writeInt(capacity);
+        out.writeUTF(gate);
+    }
+
+    public static TimetableEntry readSnapshot(ObjectInput in) throws IOException {
+        return new TimetableEntry(in.readUTF(), in.readDouble(), in.readInt(), in.readUTF());
+    }
+
+    @Override
+    public String toString() {
+        return "TimetableEntry{" +
+                "flightNumber='" + flightNumber + '\'' +
+                ", departureTime=" + departureTime +
+                ", capacity=" + capacity +
+                ", gate='" + gate + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,119 @@
+package com.slusarczykr.terminal.simulation.timetable;
+
+import com.slusarczykr.terminal.simulation.time.SimulationTime;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.time.Duration;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+
+public class TimetableReader implements Closeable {
+
+    private static final char SEPARATOR = ',';
+    private static final char COMMENT = '#';
+    private static final char DAY_OFFSET = '+';
+    private static final String HEADER_PREFIX = "flight";
+    private static final int FIELDS = 4;
+
+    private final BufferedReader reader;
+    private final String[] fields;
+    private int lineNumber;
+
+    public TimetableReader(Reader reader) {
+        this.reader = reader instanceof BufferedReader ? (BufferedReader) reader : new BufferedReader(reader);
+        this.fields = new String[FIELDS];
+    }
+
+    public TimetableEntry next() throws IOException {
+        String line;
+
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            line = line.trim();
+
+            if (line.isEmpty() || line.charAt(0) == COMMENT || isHeader(line)) {
+                continue;
+            }
+            return toEntry(line);
+        }
+        return null;
+    }
+
+    private boolean isHeader(String line) {
+        return lineNumber == 1 && line.regionMatches(true, 0, HEADER_PREFIX, 0, HEADER_PREFIX.length());
+    }
+
+    private TimetableEntry toEntry(String line) {
+        int size = split(line);
+
+        if (size < FIELDS - 1) {
+            throw invalidEntry(line, null);
+        }
+        try {
+            String flightNumber = fields[0];
+            double departureTime = toDepartureTime(fields[1]);
+            int capacity = Integer.parseInt(fields[2]);
+            String gate = size == FIELDS ? fields[3] : "";
+
+            if (flightNumber.isEmpty() || capacity < 1) {
+                throw invalidEntry(line, null);
+            }
+            return new TimetableEntry(flightNumber, departureTime, capacity, gate);
+        } catch (NumberFormatException | DateTimeParseException e) {
+            throw invalidEntry(line, e);
+        }
+    }
+
+    private int split(String line) {
+        int size = 0;
+        int start = 0;
+
+        while (size < FIELDS) {
+            int end = line.indexOf(SEPARATOR, start);
+
+            if (end < 0 || size == FIELDS - 1) {
+                fields[size++] = line.substring(start).trim();
+                return size;
+            }
+            fields[size++] = line.substring(start, end).trim();
+            start = end + 1;
+        }
+        return size;
+    }
+
+    private static double toDepartureTime(String departureTime) {
+        if (departureTime.toUpperCase().startsWith("P")) {
+            return SimulationTime.of(Duration.parse(departureTime.toUpperCase()));
+        }
+        if (departureTime.indexOf(':') < 0) {
+            return SimulationTime.ofSeconds(Double.parseDouble(departureTime));
+        }
+        int dayOffsetIndex = departureTime.indexOf(DAY_OFFSET);
+        long days = 0;
+
+        if (dayOffsetIndex > 0) {
+            days = Long.parseLong(departureTime.substring(dayOffsetIndex + 1).trim());
+            departureTime = departureTime.substring(0, dayOffsetIndex).trim();
+        }
+        LocalTime time = LocalTime.parse(departureTime);
+
+        return SimulationTime.of(Duration.ofDays(days).plusNanos(time.toNanoOfDay()));
+    }
+
+    private IllegalArgumentException invalidEntry(String line, Exception cause) {
+        return new IllegalArgumentException(String.format("Invalid timetable entry at line %d: '%s'! Expected: flight,STD,capacity[,gate]",
+                lineNumber, line), cause);
+    }
+
+    public int getLineNumber() {
+        return lineNumber;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,25 @@
+package com.slusarczykr.terminal.simulation.trace;
+
+import com.slusarczykr.terminal.simulation.action.ActionKey;
+
+public interface EventTrace extends AutoCloseable {
+
+    EventTrace DISABLED = new EventTrace() {
+        @Override
+        public boolean isEnabled() {
+            return false;
+        }
+
+        @Override
+        public void record(double simTime, ActionKey actionKey, int index, long elementId, TraceEventType eventType) {
+        }
+    };
+
+    boolean isEnabled();
+
+    void record(double simTime, ActionKey actionKey, int index, long elementId, TraceEventType eventType);
+
+    @Override
+    default void close() {
+    }
+}
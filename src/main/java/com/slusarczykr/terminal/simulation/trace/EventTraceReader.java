@@ -0,0 +1,85 @@
+package com.slusarczykr.terminal.simulation.trace;
+
+import com.slusarczykr.terminal.simulation.action.ActionKey;
+
+import java.io.BufferedWriter;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+import static com.slusarczykr.terminal.simulation.trace.MappedEventTrace.CAPACITY_OFFSET;
+import static com.slusarczykr.terminal.simulation.trace.MappedEventTrace.HEADER_SIZE;
+import static com.slusarczykr.terminal.simulation.trace.MappedEventTrace.MAGIC;
+import static com.slusarczykr.terminal.simulation.trace.MappedEventTrace.RECORDS_OFFSET;
+import static com.slusarczykr.terminal.simulation.trace.MappedEventTrace.RECORD_SIZE;
+
+public class EventTraceReader {
+
+    private static final String CSV_HEADER = "sequence,simTime,action,index,passengerId,event";
+
+    private static final ActionKey[] ACTION_KEYS = ActionKey.values();
+    private static final TraceEventType[] EVENT_TYPES = TraceEventType.values();
+
+    private EventTraceReader() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: EventTraceReader <trace file> [csv file]");
+            System.exit(1);
+        }
+        Path traceFile = Paths.get(args[0]);
+
+        if (args.length > 1) {
+            try (Writer writer = Files.newBufferedWriter(Paths.get(args[1]), StandardCharsets.UTF_8)) {
+                toCsv(traceFile, writer);
+            }
+        } else {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(FileDescriptor.out), StandardCharsets.UTF_8));
+            toCsv(traceFile, writer);
+            writer.flush();
+        }
+    }
+
+    public static long toCsv(Path traceFile, Writer writer) throws IOException {
+        try (FileChannel channel = FileChannel.open(traceFile, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+            if (channel.size() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+                throw new IllegalArgumentException(String.format("Invalid event trace file: '%s'", traceFile));
+            }
+            long capacity = buffer.getLong(CAPACITY_OFFSET);
+            long records = buffer.getLong(RECORDS_OFFSET);
+            long firstRecord = Math.max(records - capacity, 0);
+
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+
+            for (long sequence = firstRecord; sequence < records; sequence++) {
+                writeRecord(buffer, sequence, (int) (sequence % capacity), writer);
+            }
+            return records - firstRecord;
+        }
+    }
+
+    private static void writeRecord(MappedByteBuffer buffer, long sequence, int slot, Writer writer) throws IOException {
+        int position = HEADER_SIZE + slot * RECORD_SIZE;
+        StringBuilder row = new StringBuilder(64)
+                .append(sequence).append(',')
+                .append(buffer.getDouble(position)).append(',')
+                .append(ACTION_KEYS[buffer.get(position + 20)]).append(',')
+                .append(buffer.getInt(position + 16)).append(',')
+                .append(buffer.getLong(position + 8)).append(',')
+                .append(EVENT_TYPES[buffer.get(position + 21)]).append('\n');
+        writer.write(row.toString());
+    }
+}
@@ -0,0 +1,93 @@
+package com.slusarczykr.terminal.simulation.trace;
+
+import com.slusarczykr.terminal.simulation.action.ActionKey;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+public class MappedEventTrace implements EventTrace {
+
+    private static final Logger log = LogManager.getLogger(MappedEventTrace.class);
+
+    static final int MAGIC = 0x54535452;
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 32;
+    static final int RECORD_SIZE = 24;
+    static final int CAPACITY_OFFSET = 8;
+    static final int RECORDS_OFFSET = 16;
+    static final int MAX_CAPACITY = (Integer.MAX_VALUE - HEADER_SIZE) / RECORD_SIZE;
+
+    private final Path traceFile;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final int capacity;
+    private long records;
+    private boolean closed;
+
+    public MappedEventTrace(Path traceFile, int capacity) {
+        if (capacity < 1 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException(String.format("Invalid event trace capacity value! Valid range: %d - %d",
+                    1, MAX_CAPACITY));
+        }
+        this.traceFile = traceFile;
+        this.capacity = capacity;
+
+        try {
+            this.channel = FileChannel.open(traceFile, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE);
+            this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE + (long) capacity * RECORD_SIZE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(String.format("Unable to open event trace file: '%s'", traceFile), e);
+        }
+        buffer.putInt(0, MAGIC);
+        buffer.putInt(4, VERSION);
+        buffer.putLong(CAPACITY_OFFSET, capacity);
+        buffer.putLong(RECORDS_OFFSET, 0L);
+    }
+
+    public Path getTraceFile() {
+        return traceFile;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+
+    @Override
+    public synchronized void record(double simTime, ActionKey actionKey, int index, long elementId, TraceEventType eventType) {
+        if (closed) {
+            return;
+        }
+        int position = HEADER_SIZE + (int) (records % capacity) * RECORD_SIZE;
+        buffer.putDouble(position, simTime);
+        buffer.putLong(position + 8, elementId);
+        buffer.putInt(position + 16, index);
+        buffer.put(position + 20, (byte) actionKey.ordinal());
+        buffer.put(position + 21, (byte) eventType.ordinal());
+        buffer.putLong(RECORDS_OFFSET, ++records);
+    }
+
+    public synchronized long getRecords() {
+        return records;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (!closed) {
+            closed = true;
+            try {
+                buffer.force();
+                channel.close();
+            } catch (IOException e) {
+                log.error("Exception thrown during event trace closing", e);
+            }
+        }
+    }
+}
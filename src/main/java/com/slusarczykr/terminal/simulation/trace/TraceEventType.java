@@ -0,0 +1,14 @@
+package com.slusarczykr.terminal.simulation.trace;
+
+public enum TraceEventType {
+    GENERATED,
+    QUEUED,
+    REJECTED,
+    SERVICE_STARTED,
+    SERVICE_FINISHED,
+    RANDOM_EVENT_STARTED,
+    RANDOM_EVENT_FINISHED,
+    BOARDED,
+    MISSED_FLIGHT,
+    TRANSFERRED;
+}
@@ -0,0 +1,136 @@
+package com.slusarczykr.terminal.simulation.action.queue;
+
+import com.slusarczykr.terminal.simulation.config.SimulationConfiguration;
+import com.slusarczykr.terminal.simulation.coordinator.TerminalSimulationCoordinator;
+import com.slusarczykr.terminal.simulation.engine.EngineType;
+import com.slusarczykr.terminal.simulation.model.Passenger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static com.slusarczykr.terminal.simulation.action.ActionKey.CHECK_IN;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class AbstractActionQueueTest {
+
+    private static final int PRODUCERS = 4;
+    private static final int SERVERS = 4;
+    private static final int PASSENGERS_PER_PRODUCER = 50_000;
+    private static final int QUEUE_CAPACITY = 64;
+    private static final int BATCH_SIZE = 4;
+
+    private ActionQueue<Passenger> actionQueue;
+    private AtomicIntegerArray servedPassengers;
+    private AtomicInteger servedPassengersNumber;
+    private AtomicInteger activeServers;
+    private AtomicInteger concurrentServers;
+
+    @BeforeEach
+    void setup() {
+        SimulationConfiguration simulationConfig = new SimulationConfiguration();
+        simulationConfig.setEngineType(EngineType.EVENT_CALENDAR.name());
+        simulationConfig.setSeed(42L);
+        simulationConfig.setQueueCapacity(CHECK_IN, QUEUE_CAPACITY);
+        TerminalSimulationCoordinator simulationCoordinator = new TerminalSimulationCoordinator(simulationConfig);
+        simulationCoordinator.stop();
+
+        actionQueue = new PassengerQueue(CHECK_IN, simulationCoordinator);
+        servedPassengers = new AtomicIntegerArray(PRODUCERS * PASSENGERS_PER_PRODUCER);
+        servedPassengersNumber = new AtomicInteger();
+        activeServers = new AtomicInteger();
+        concurrentServers = new AtomicInteger();
+    }
+
+    @Test
+    void shouldServeEveryOfferedPassengerExactlyOnce() throws Exception {
+        int passengersNumber = PRODUCERS * PASSENGERS_PER_PRODUCER;
+        ExecutorService executor = Executors.newFixedThreadPool(PRODUCERS + SERVERS);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        List<Callable<Void>> tasks = new ArrayList<>();
+
+        for (int i = 0; i < PRODUCERS; i++) {
+            int firstPassengerId = i * PASSENGERS_PER_PRODUCER;
+            tasks.add(() -> produce(startLatch, firstPassengerId));
+        }
+        for (int i = 0; i < SERVERS; i++) {
+            tasks.add(() -> serve(startLatch, passengersNumber));
+        }
+        try {
+            List<Future<Void>> futures = new ArrayList<>();
+            tasks.forEach(it -> futures.add(executor.submit(it)));
+            startLatch.countDown();
+
+            for (Future<Void> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        for (int i = 0; i < passengersNumber; i++) {
+            assertEquals(1, servedPassengers.get(i), String.format("Passenger %d served invalid number of times", i));
+        }
+        assertEquals(passengersNumber, servedPassengersNumber.get());
+        assertEquals(0, concurrentServers.get());
+        assertEquals(0, actionQueue.getLength());
+        assertFalse(actionQueue.isOccupied());
+    }
+
+    private Void produce(CountDownLatch startLatch, int firstPassengerId) throws InterruptedException {
+        startLatch.await();
+
+        for (int id = firstPassengerId; id < firstPassengerId + PASSENGERS_PER_PRODUCER; id++) {
+            Passenger passenger = new Passenger(id, 0.0, 0);
+
+            while (!actionQueue.offer(passenger)) {
+                Thread.yield();
+            }
+        }
+        return null;
+    }
+
+    private Void serve(CountDownLatch startLatch, int passengersNumber) throws InterruptedException {
+        List<Passenger> passengers = new ArrayList<>(BATCH_SIZE);
+        startLatch.await();
+
+        while (servedPassengersNumber.get() < passengersNumber || actionQueue.isOccupied()) {
+            if (actionQueue.tryAcquire()) {
+                serveUntilReleased(passengers);
+            } else {
+                Thread.yield();
+            }
+        }
+        return null;
+    }
+
+    private void serveUntilReleased(List<Passenger> passengers) {
+        if (activeServers.incrementAndGet() != 1) {
+            concurrentServers.incrementAndGet();
+        }
+        while (true) {
+            if (actionQueue.drainTo(passengers, BATCH_SIZE) > 0) {
+                passengers.forEach(it -> servedPassengers.incrementAndGet((int) it.getId()));
+                servedPassengersNumber.addAndGet(passengers.size());
+                passengers.clear();
+            } else {
+                activeServers.decrementAndGet();
+
+                if (actionQueue.tryRelease()) {
+                    return;
+                }
+                activeServers.incrementAndGet();
+            }
+        }
+    }
+}